@@ -0,0 +1,469 @@
+package org.example;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable list that stores its elements in fixed-size chunks, used as the backing storage
+ * of {@link Sentence} and {@link Text}.
+ *
+ * <p>The list is a two-level tree: a root array points to chunks of {@link #CHUNK_SIZE} elements
+ * (the last chunk may be shorter). Indexing stays constant-time, and the list is persistent:
+ * {@link #map(UnaryOperator)} copies only the chunks in which an element actually changed and shares
+ * all others with the original list. If the operation removes elements, only the chunks that lost
+ * elements are copied, and they become shorter; the list then keeps the start position of every
+ * chunk and finds the chunk of an index by binary search. Its spliterator splits at chunk
+ * boundaries, so parallel streams over a huge sentence divide the work into whole chunks.
+ *
+ * <p>This class is immutable; all mutating methods of {@link java.util.List} throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @param <E> The type of the elements.
+ */
+final class ChunkedList<E> extends AbstractList<E> implements RandomAccess {
+
+    /** The number of bits of an index that select a position within a chunk. */
+    private static final int CHUNK_SHIFT = 6;
+
+    /** The number of elements in a full chunk. */
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    /** The mask that selects a position within a chunk. */
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /** The shared empty list. */
+    private static final ChunkedList<?> EMPTY = new ChunkedList<>(new Object[0][], null, 0);
+
+    /**
+     * The chunks holding the elements. None of them is empty. Unless {@link #starts} is set,
+     * every chunk except the last one is full.
+     */
+    private final Object[][] chunks;
+
+    /**
+     * The position of the first element of every chunk, or {@code null} if every chunk except the
+     * last one is full, so that positions follow from the chunk index.
+     */
+    private final int[] starts;
+
+    /** The number of elements in the list. */
+    private final int size;
+
+    /**
+     * Creates a list over the given chunks, which must not be modified afterwards.
+     *
+     * @param chunks The chunks holding the elements.
+     * @param starts The position of the first element of every chunk, or {@code null} if every
+     *               chunk except the last one is full.
+     * @param size The number of elements.
+     */
+    private ChunkedList(Object[][] chunks, int[] starts, int size) {
+        this.chunks = chunks;
+        this.starts = starts;
+        this.size = size;
+    }
+
+    /**
+     * Returns a chunked list with the elements of the given collection, in iteration order.
+     * A chunked list is returned as is, since it is immutable.
+     *
+     * @param elements The elements to copy.
+     * @param <E> The type of the elements.
+     * @return A chunked list holding the elements.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> ChunkedList<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof ChunkedList<? extends E> chunked) {
+            return (ChunkedList<E>) chunked;
+        }
+        int size = elements.size();
+        if (size == 0) {
+            return empty();
+        }
+
+        Object[][] chunks = new Object[chunkCount(size)][];
+        Iterator<? extends E> iterator = elements.iterator();
+        for (int c = 0; c < chunks.length; c++) {
+            Object[] chunk = new Object[Math.min(CHUNK_SIZE, size - (c << CHUNK_SHIFT))];
+            for (int i = 0; i < chunk.length; i++) {
+                chunk[i] = iterator.next();
+            }
+            chunks[c] = chunk;
+        }
+        return new ChunkedList<>(chunks, null, size);
+    }
+
+    /**
+     * Returns the element at the given position.
+     *
+     * @param index The position of the element.
+     * @return The element.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        if (starts == null) {
+            return (E) chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        }
+        int c = chunkOf(index);
+        return (E) chunks[c][index - starts[c]];
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return The size of the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Performs an action for each element, walking the chunks directly.
+     *
+     * @param action The action to perform.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        for (Object[] chunk : chunks) {
+            for (Object element : chunk) {
+                action.accept((E) element);
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator that walks the chunks directly.
+     *
+     * @return An iterator over the elements.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            /** The chunk holding the next element. */
+            private int chunk;
+
+            /** The position of the next element within its chunk. */
+            private int offset;
+
+            @Override
+            public boolean hasNext() {
+                return chunk < chunks.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (chunk >= chunks.length) {
+                    throw new NoSuchElementException();
+                }
+                E element = (E) chunks[chunk][offset++];
+                if (offset == chunks[chunk].length) {
+                    chunk++;
+                    offset = 0;
+                }
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Returns a spliterator that splits only at chunk boundaries.
+     *
+     * @return A spliterator over the elements.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ChunkSpliterator(0, size);
+    }
+
+    /**
+     * Returns a list with the operation applied to every element. Chunks in which every element
+     * is mapped to itself are shared with this list; only the other chunks are copied.
+     * Elements for which the operation returns {@code null} are removed, in which case all
+     * chunks are rebuilt to keep them full.
+     *
+     * @param operation The operation to apply.
+     * @return A list with the mapped elements, or this list if no element changed.
+     */
+    ChunkedList<E> map(UnaryOperator<E> operation) {
+        Object[][] mapped = null;
+        for (int c = 0; c < chunks.length; c++) {
+            Object[] chunk = mapChunk(chunks[c], operation);
+            if (chunk != chunks[c]) {
+                if (mapped == null) {
+                    mapped = chunks.clone();
+                }
+                mapped[c] = chunk;
+            }
+        }
+        return (mapped == null) ? this : withChunks(mapped);
+    }
+
+    /**
+     * Like {@link #map(UnaryOperator)}, but maps the chunks in parallel.
+     * The operation must be safe to call from several threads.
+     *
+     * @param operation The operation to apply.
+     * @return A list with the mapped elements, or this list if no element changed.
+     */
+    ChunkedList<E> mapParallel(UnaryOperator<E> operation) {
+        Object[][] mapped = new Object[chunks.length][];
+        IntStream.range(0, chunks.length).parallel().forEach(c -> mapped[c] = mapChunk(chunks[c], operation));
+        for (int c = 0; c < chunks.length; c++) {
+            if (mapped[c] != chunks[c]) {
+                return withChunks(mapped);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Creates a list from mapped chunks. Chunks that were copied may contain {@code null} for
+     * removed elements; if so, only those chunks are compacted into shorter ones, empty chunks are
+     * dropped, and all other chunks stay shared with this list.
+     *
+     * @param mapped The mapped chunks; unchanged chunks are the ones of this list.
+     * @return A list over the mapped elements.
+     */
+    private ChunkedList<E> withChunks(Object[][] mapped) {
+        boolean removed = false;
+        for (int c = 0; c < mapped.length; c++) {
+            if (mapped[c] != chunks[c]) {
+                Object[] compacted = compact(mapped[c]);
+                removed |= compacted != mapped[c];
+                mapped[c] = compacted;
+            }
+        }
+        if (!removed) {
+            return new ChunkedList<>(mapped, starts, size);
+        }
+
+        int chunkCount = 0;
+        for (Object[] chunk : mapped) {
+            if (chunk.length > 0) {
+                mapped[chunkCount++] = chunk;
+            }
+        }
+        if (chunkCount == 0) {
+            return empty();
+        }
+        Object[][] kept = Arrays.copyOf(mapped, chunkCount);
+        int[] keptStarts = new int[chunkCount];
+        boolean regular = true;
+        int position = 0;
+        for (int c = 0; c < chunkCount; c++) {
+            keptStarts[c] = position;
+            position += kept[c].length;
+            regular &= (c == chunkCount - 1) || kept[c].length == CHUNK_SIZE;
+        }
+        return new ChunkedList<>(kept, regular ? null : keptStarts, position);
+    }
+
+    /**
+     * Removes the {@code null} entries of a freshly copied chunk.
+     *
+     * @param chunk The chunk, which is not shared with any list.
+     * @return The chunk itself if it has no {@code null} entries, otherwise a shorter copy.
+     */
+    private static Object[] compact(Object[] chunk) {
+        int count = 0;
+        for (Object element : chunk) {
+            if (element != null) {
+                count++;
+            }
+        }
+        if (count == chunk.length) {
+            return chunk;
+        }
+        Object[] compacted = new Object[count];
+        int index = 0;
+        for (Object element : chunk) {
+            if (element != null) {
+                compacted[index++] = element;
+            }
+        }
+        return compacted;
+    }
+
+    /**
+     * Returns the number of chunks that this list shares with another one. Used to check that
+     * mapping copies only the chunks that changed.
+     *
+     * @param other The other list.
+     * @return The number of chunk arrays that both lists hold.
+     */
+    int countSharedChunks(ChunkedList<?> other) {
+        Set<Object[]> own = Collections.newSetFromMap(new IdentityHashMap<>());
+        own.addAll(Arrays.asList(chunks));
+        int shared = 0;
+        for (Object[] chunk : other.chunks) {
+            if (own.contains(chunk)) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the shared empty list.
+     *
+     * @param <E> The type of the elements.
+     * @return The empty list.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> ChunkedList<E> empty() {
+        return (ChunkedList<E>) EMPTY;
+    }
+
+    /**
+     * Applies an operation to every element of a chunk.
+     *
+     * @param chunk The chunk to map.
+     * @param operation The operation to apply.
+     * @return A new chunk with the mapped elements, or the same chunk if no element changed.
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] mapChunk(Object[] chunk, UnaryOperator<E> operation) {
+        Object[] copy = null;
+        for (int i = 0; i < chunk.length; i++) {
+            Object mapped = operation.apply((E) chunk[i]);
+            if (mapped != chunk[i] && copy == null) {
+                copy = chunk.clone();
+            }
+            if (copy != null) {
+                copy[i] = mapped;
+            }
+        }
+        return (copy == null) ? chunk : copy;
+    }
+
+    /**
+     * Returns the chunk that holds the element at the given position.
+     *
+     * @param index The position, which is in range.
+     * @return The index of the chunk.
+     */
+    private int chunkOf(int index) {
+        if (starts == null) {
+            return index >>> CHUNK_SHIFT;
+        }
+        int found = Arrays.binarySearch(starts, index);
+        return (found >= 0) ? found : -found - 2; // The last chunk starting before the index
+    }
+
+    /**
+     * Returns the position of the first element of a chunk.
+     *
+     * @param chunk The index of the chunk.
+     * @return The position of its first element.
+     */
+    private int chunkStart(int chunk) {
+        return (starts == null) ? chunk << CHUNK_SHIFT : starts[chunk];
+    }
+
+    /**
+     * Returns the number of chunks needed for the given number of elements.
+     *
+     * @param size The number of elements.
+     * @return The number of chunks.
+     */
+    private static int chunkCount(int size) {
+        return (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+    }
+
+    /**
+     * A spliterator over a range of positions that splits at chunk boundaries.
+     */
+    private final class ChunkSpliterator implements Spliterator<E> {
+
+        /** The next position to visit. */
+        private int index;
+
+        /** The position just past the range. */
+        private final int fence;
+
+        /**
+         * Creates a spliterator over the given range.
+         *
+         * @param index The first position.
+         * @param fence The position just past the range.
+         */
+        private ChunkSpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(get(index++));
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (index >= fence) {
+                return;
+            }
+            int c = chunkOf(index);
+            int offset = index - chunkStart(c);
+            while (index < fence) {
+                Object[] chunk = chunks[c++];
+                int end = Math.min(chunk.length, offset + fence - index);
+                for (int i = offset; i < end; i++) {
+                    action.accept((E) chunk[i]);
+                }
+                index += end - offset;
+                offset = 0;
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            if (index >= fence) {
+                return null;
+            }
+            int c = chunkOf((index + fence) >>> 1);
+            int middle = chunkStart(c);
+            if (middle <= index) {
+                middle = (c + 1 < chunks.length) ? chunkStart(c + 1) : fence;
+            }
+            if (middle >= fence) {
+                return null; // The range lies within a single chunk
+            }
+            ChunkSpliterator prefix = new ChunkSpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+    }
+}
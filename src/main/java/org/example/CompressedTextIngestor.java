@@ -0,0 +1,466 @@
+package org.example;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads compressed text and turns it into a {@link Text}, running decompression, character
+ * decoding, parsing and an optional {@link TextPipeline} as four overlapping stages.
+ *
+ * <p>Each stage runs on its own thread. Stages are connected by bounded queues: decompressed bytes
+ * and decoded characters travel in a fixed number of reusable buffers that are handed back to their
+ * producer once consumed, and parsed sentences travel through a bounded queue of their own. A slow
+ * stage therefore holds back the faster ones instead of letting data pile up in memory.
+ *
+ * <p>Every ingestion reports the utilization of each stage: the share of the total wall-clock time
+ * the stage spent working rather than waiting on a queue or having already finished. The bottleneck
+ * is the stage with the highest utilization.
+ *
+ * <p>This class is immutable and thread-safe; every call to {@code ingest} uses its own threads.
+ */
+public final class CompressedTextIngestor {
+
+    /**
+     * The compression formats understood by the ingestor. Formats outside the JDK, such as zstd,
+     * can be read by decompressing them with a library stream and using {@link #NONE}.
+     */
+    public enum Compression {
+        /** Uncompressed input. */
+        NONE,
+        /** The gzip format. */
+        GZIP,
+        /** The zlib (deflate) format. */
+        DEFLATE;
+
+        /**
+         * Wraps a stream of compressed bytes into a stream of decompressed bytes.
+         *
+         * @param input The compressed input.
+         * @return The decompressed input.
+         * @throws IOException if the compressed header cannot be read.
+         */
+        private InputStream wrap(InputStream input) throws IOException {
+            return switch (this) {
+                case NONE -> input;
+                case GZIP -> new GZIPInputStream(input, BUFFER_SIZE);
+                case DEFLATE -> new InflaterInputStream(input);
+            };
+        }
+    }
+
+    /** The names of the stages, in pipeline order. */
+    private static final String[] STAGE_NAMES = {"decompress", "decode", "parse", "process"};
+
+    /** The size of every byte and character buffer. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The number of reusable buffers between two stages. */
+    private static final int BUFFER_COUNT = 4;
+
+    /** The capacity of the queue between the parse and process stages. */
+    private static final int SENTENCE_QUEUE_CAPACITY = 1024;
+
+    /** The marker that ends the sentence queue. */
+    private static final Sentence END_OF_SENTENCES = new Sentence(Collections.emptyList());
+
+    /** The compression format of the input. */
+    private final Compression compression;
+
+    /** The character set of the decompressed input. */
+    private final Charset charset;
+
+    /** The transformation applied to every sentence in the process stage. */
+    private final TextPipeline pipeline;
+
+    /**
+     * Constructs an ingestor for UTF-8 text that does not transform the parsed sentences.
+     *
+     * @param compression The compression format of the input. Must not be null.
+     * @throws IllegalArgumentException if {@code compression} is null.
+     */
+    public CompressedTextIngestor(Compression compression) {
+        this(compression, StandardCharsets.UTF_8, new TextPipeline());
+    }
+
+    /**
+     * Constructs an ingestor.
+     *
+     * @param compression The compression format of the input. Must not be null.
+     * @param charset The character set of the decompressed input. Must not be null.
+     * @param pipeline The transformation applied to every parsed sentence. Must not be null;
+     *                 use an empty {@link TextPipeline} to keep sentences unchanged.
+     * @throws IllegalArgumentException if any of the inputs are null.
+     */
+    public CompressedTextIngestor(Compression compression, Charset charset, TextPipeline pipeline) {
+        if (compression == null) {
+            throw new IllegalArgumentException("Compression cannot be null.");
+        }
+        if (charset == null) {
+            throw new IllegalArgumentException("Charset cannot be null.");
+        }
+        if (pipeline == null) {
+            throw new IllegalArgumentException("Pipeline cannot be null.");
+        }
+        this.compression = compression;
+        this.charset = charset;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Ingests a compressed file.
+     *
+     * @param path The file to read. Must not be null.
+     * @return The parsed text and the utilization of each stage.
+     * @throws IllegalArgumentException if {@code path} is null or the decompressed text is blank.
+     * @throws IOException if the file cannot be read or decompressed.
+     */
+    public IngestionResult ingest(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Input path cannot be null.");
+        }
+        try (InputStream input = Files.newInputStream(path)) {
+            return ingest(input);
+        }
+    }
+
+    /**
+     * Ingests a compressed stream. The stream is read to its end but not closed.
+     *
+     * @param input The stream to read. Must not be null.
+     * @return The parsed text and the utilization of each stage.
+     * @throws IllegalArgumentException if {@code input} is null or the decompressed text is blank.
+     * @throws IOException if the stream cannot be read or decompressed.
+     */
+    public IngestionResult ingest(InputStream input) throws IOException {
+        if (input == null) {
+            throw new IllegalArgumentException("Input stream cannot be null.");
+        }
+
+        Run run = new Run();
+        long start = System.nanoTime();
+        List<Callable<Void>> stages = List.of(
+                run.timed(0, () -> run.decompress(input)),
+                run.timed(1, run::decode),
+                run.timed(2, run::parse),
+                run.timed(3, run::process));
+
+        ExecutorService executor = Executors.newFixedThreadPool(stages.size());
+        try {
+            ExecutorCompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+            for (Callable<Void> stage : stages) {
+                completion.submit(stage);
+            }
+            for (int i = 0; i < stages.size(); i++) {
+                completion.take().get(); // The first failing stage stops the whole run
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Ingestion was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Map<String, Double> utilization = new LinkedHashMap<>();
+        for (int i = 0; i < STAGE_NAMES.length; i++) {
+            long busy = run.activeNanos[i] - run.waitNanos[i];
+            utilization.put(STAGE_NAMES[i], Math.max(0.0, Math.min(1.0, (double) busy / elapsed)));
+        }
+        return new IngestionResult(new Text(run.sentences), utilization);
+    }
+
+    /**
+     * Converts the failure of a stage into the exception thrown by {@code ingest}.
+     *
+     * @param cause The failure.
+     * @return The exception to throw.
+     */
+    private static IOException rethrow(Throwable cause) {
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException("Ingestion failed.", cause);
+    }
+
+    /**
+     * A reusable buffer of bytes passed from the decompress stage to the decode stage.
+     */
+    private static final class ByteChunk {
+        /** The bytes. */
+        private final byte[] data = new byte[BUFFER_SIZE];
+
+        /** The number of valid bytes, or {@code -1} for the end of the input. */
+        private int length;
+    }
+
+    /**
+     * A reusable buffer of characters passed from the decode stage to the parse stage.
+     */
+    private static final class CharChunk {
+        /** The characters. */
+        private final char[] data = new char[BUFFER_SIZE];
+
+        /** The number of valid characters, or {@code -1} for the end of the input. */
+        private int length;
+    }
+
+    /**
+     * The state of a single ingestion: the queues between the stages and the stage bodies.
+     */
+    private final class Run {
+
+        /** Empty byte buffers, waiting to be filled by the decompress stage. */
+        private final BlockingQueue<ByteChunk> freeBytes = new ArrayBlockingQueue<>(BUFFER_COUNT);
+
+        /** Filled byte buffers, waiting to be decoded. */
+        private final BlockingQueue<ByteChunk> filledBytes = new ArrayBlockingQueue<>(BUFFER_COUNT);
+
+        /** Empty character buffers, waiting to be filled by the decode stage. */
+        private final BlockingQueue<CharChunk> freeChars = new ArrayBlockingQueue<>(BUFFER_COUNT);
+
+        /** Filled character buffers, waiting to be parsed. */
+        private final BlockingQueue<CharChunk> filledChars = new ArrayBlockingQueue<>(BUFFER_COUNT);
+
+        /** Parsed sentences, waiting to be processed. */
+        private final BlockingQueue<Sentence> parsedSentences = new ArrayBlockingQueue<>(SENTENCE_QUEUE_CAPACITY);
+
+        /** The processed sentences; only touched by the process stage until the run ends. */
+        private final List<Sentence> sentences = new ArrayList<>();
+
+        /** The time every stage spent blocked on a queue, indexed like {@link #STAGE_NAMES}. */
+        private final long[] waitNanos = new long[STAGE_NAMES.length];
+
+        /** The time from the start to the end of every stage, indexed like {@link #STAGE_NAMES}. */
+        private final long[] activeNanos = new long[STAGE_NAMES.length];
+
+        /**
+         * Creates the reusable buffers.
+         */
+        private Run() {
+            for (int i = 0; i < BUFFER_COUNT; i++) {
+                freeBytes.add(new ByteChunk());
+                freeChars.add(new CharChunk());
+            }
+        }
+
+        /**
+         * Wraps a stage so that the time from its start to its end is recorded.
+         *
+         * @param stage The index of the stage.
+         * @param body The body of the stage.
+         * @return The wrapped stage.
+         */
+        private Callable<Void> timed(int stage, Callable<Void> body) {
+            return () -> {
+                long start = System.nanoTime();
+                try {
+                    return body.call();
+                } finally {
+                    activeNanos[stage] = System.nanoTime() - start;
+                }
+            };
+        }
+
+        /**
+         * The decompress stage: reads decompressed bytes into free byte buffers.
+         *
+         * @param input The compressed input, which is not closed.
+         * @return Nothing.
+         * @throws IOException if reading or decompression fails.
+         * @throws InterruptedException if the run is stopped.
+         */
+        private Void decompress(InputStream input) throws IOException, InterruptedException {
+            try (InputStream decompressed = compression.wrap(new FilterInputStream(input) {
+                @Override
+                public void close() {
+                    // The caller owns the underlying stream.
+                }
+            })) {
+                int read;
+                do {
+                    ByteChunk chunk = take(freeBytes, 0);
+                    read = decompressed.readNBytes(chunk.data, 0, chunk.data.length);
+                    chunk.length = (read == 0) ? -1 : read;
+                    put(filledBytes, chunk, 0);
+                } while (read > 0);
+            }
+            return null;
+        }
+
+        /**
+         * The decode stage: decodes filled byte buffers into free character buffers.
+         * Bytes of a character split across two buffers are carried over to the next one.
+         *
+         * @return Nothing.
+         * @throws InterruptedException if the run is stopped.
+         */
+        private Void decode() throws InterruptedException {
+            CharsetDecoder decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            ByteBuffer in = ByteBuffer.allocate(BUFFER_SIZE + 16);
+            CharChunk out = take(freeChars, 1);
+            CharBuffer outBuffer = CharBuffer.wrap(out.data);
+
+            while (true) {
+                ByteChunk chunk = take(filledBytes, 1);
+                boolean endOfInput = chunk.length < 0;
+                if (!endOfInput) {
+                    in.put(chunk.data, 0, chunk.length);
+                }
+                put(freeBytes, chunk, 1);
+
+                in.flip();
+                CoderResult result;
+                do {
+                    result = decoder.decode(in, outBuffer, endOfInput);
+                    if (result.isOverflow()) {
+                        out = sendChars(out, outBuffer);
+                        outBuffer = CharBuffer.wrap(out.data);
+                    }
+                } while (result.isOverflow());
+                in.compact();
+
+                if (endOfInput) {
+                    while (decoder.flush(outBuffer).isOverflow()) {
+                        out = sendChars(out, outBuffer);
+                        outBuffer = CharBuffer.wrap(out.data);
+                    }
+                    CharChunk end = sendChars(out, outBuffer);
+                    end.length = -1;
+                    put(filledChars, end, 1);
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * Passes a filled character buffer to the parse stage and takes a free one.
+         *
+         * @param chunk The filled buffer.
+         * @param buffer The view that records how much of the buffer is filled.
+         * @return A free buffer.
+         * @throws InterruptedException if the run is stopped.
+         */
+        private CharChunk sendChars(CharChunk chunk, CharBuffer buffer) throws InterruptedException {
+            chunk.length = buffer.position();
+            put(filledChars, chunk, 1);
+            return take(freeChars, 1);
+        }
+
+        /**
+         * The parse stage: feeds character buffers to a streaming {@link TextParser}.
+         *
+         * @return Nothing.
+         * @throws InterruptedException if the run is stopped.
+         */
+        private Void parse() throws InterruptedException {
+            TextParser parser = new TextParser();
+            List<Sentence> completed = new ArrayList<>();
+            parser.startStreaming();
+
+            while (true) {
+                CharChunk chunk = take(filledChars, 2);
+                boolean endOfInput = chunk.length < 0;
+                if (endOfInput) {
+                    put(freeChars, chunk, 2);
+                    try {
+                        parser.finishStreaming(completed::add);
+                    } finally {
+                        completed.add(END_OF_SENTENCES); // Lets the process stage finish either way
+                        for (Sentence sentence : completed) {
+                            put(parsedSentences, sentence, 2);
+                        }
+                    }
+                    return null;
+                }
+
+                parser.feed(chunk.data, 0, chunk.length, completed::add);
+                put(freeChars, chunk, 2);
+                for (Sentence sentence : completed) {
+                    put(parsedSentences, sentence, 2);
+                }
+                completed.clear();
+            }
+        }
+
+        /**
+         * The process stage: applies the pipeline to every parsed sentence and collects the results.
+         *
+         * @return Nothing.
+         * @throws InterruptedException if the run is stopped.
+         */
+        private Void process() throws InterruptedException {
+            while (true) {
+                Sentence sentence = take(parsedSentences, 3);
+                if (sentence == END_OF_SENTENCES) {
+                    return null;
+                }
+                sentences.add(pipeline.apply(sentence));
+            }
+        }
+
+        /**
+         * Takes an item from a queue, recording the time spent waiting.
+         *
+         * @param queue The queue.
+         * @param stage The index of the waiting stage.
+         * @param <T> The type of the items.
+         * @return The item.
+         * @throws InterruptedException if the run is stopped.
+         */
+        private <T> T take(BlockingQueue<T> queue, int stage) throws InterruptedException {
+            long start = System.nanoTime();
+            T item = queue.take();
+            waitNanos[stage] += System.nanoTime() - start;
+            return item;
+        }
+
+        /**
+         * Puts an item into a queue, recording the time spent waiting.
+         *
+         * @param queue The queue.
+         * @param item The item.
+         * @param stage The index of the waiting stage.
+         * @param <T> The type of the items.
+         * @throws InterruptedException if the run is stopped.
+         */
+        private <T> void put(BlockingQueue<T> queue, T item, int stage) throws InterruptedException {
+            long start = System.nanoTime();
+            queue.put(item);
+            waitNanos[stage] += System.nanoTime() - start;
+        }
+    }
+}
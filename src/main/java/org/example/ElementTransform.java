@@ -0,0 +1,128 @@
+package org.example;
+
+/**
+ * A transformation of a single {@link SentenceElement}, used as a stage of a {@link TextPipeline}.
+ * A transform returns the element to keep, which is the input itself when nothing changes, or
+ * {@code null} to remove the element from its sentence. Removing elements copies only the chunks
+ * of the sentence that lose elements; those chunks become shorter and the rest stay shared.
+ *
+ * <p>Transforms must be stateless, because a pipeline may apply them to the chunks of a long
+ * sentence in parallel. All transforms created by the factory methods of this interface are
+ * stateless and dispatch with an exhaustive {@code switch} over the sealed element types.
+ */
+@FunctionalInterface
+public interface ElementTransform {
+
+    /**
+     * Transforms a single element.
+     *
+     * @param element The element to transform; never null.
+     * @return The resulting element, or {@code null} to remove the element.
+     */
+    SentenceElement apply(SentenceElement element);
+
+    /**
+     * Composes this transform with the next one. The next transform is not applied to elements
+     * that this transform removes.
+     *
+     * @param next The transform to apply after this one. Must not be null.
+     * @return A transform that applies both in order.
+     * @throws IllegalArgumentException if {@code next} is null.
+     */
+    default ElementTransform andThen(ElementTransform next) {
+        if (next == null) {
+            throw new IllegalArgumentException("Next transform cannot be null.");
+        }
+        return element -> {
+            SentenceElement result = apply(element);
+            return (result == null) ? null : next.apply(result);
+        };
+    }
+
+    /**
+     * Returns a transform that replaces every word of the given length.
+     *
+     * @param length The length of words to be replaced. Must be positive.
+     * @param replacement The Word to use as a replacement. Must not be null.
+     * @return The transform.
+     * @throws IllegalArgumentException if any of the inputs are invalid.
+     */
+    static ElementTransform replaceWordsOfLength(int length, Word replacement) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Word length must be positive.");
+        }
+        if (replacement == null) {
+            throw new IllegalArgumentException("Replacement word cannot be null.");
+        }
+        return element -> switch (element) {
+            case Word word -> (word.getLength() == length) ? replacement : word;
+            case Punctuation punctuation -> punctuation;
+        };
+    }
+
+    /**
+     * Returns a transform that replaces every word found in a dictionary with its replacement.
+     *
+     * @param dictionary The dictionary of words and their replacements. Must not be null.
+     * @return The transform.
+     * @throws IllegalArgumentException if {@code dictionary} is null.
+     */
+    static ElementTransform replaceFromDictionary(WordDictionary dictionary) {
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionary cannot be null.");
+        }
+        return element -> switch (element) {
+            case Word word -> {
+                Word replacement = dictionary.lookup(word);
+                yield (replacement != null) ? replacement : word;
+            }
+            case Punctuation punctuation -> punctuation;
+        };
+    }
+
+    /**
+     * Returns a transform that converts every word to lower case, character by character.
+     * Words that are already in lower case are kept as they are.
+     *
+     * @return The transform.
+     */
+    static ElementTransform foldCase() {
+        return element -> switch (element) {
+            case Word word -> lowerCase(word);
+            case Punctuation punctuation -> punctuation;
+        };
+    }
+
+    /**
+     * Returns a transform that removes every punctuation mark except whitespace,
+     * so that words stay separated. Only the chunks of a sentence that contain such marks are copied.
+     *
+     * @return The transform.
+     */
+    static ElementTransform stripPunctuation() {
+        return element -> switch (element) {
+            case Word word -> word;
+            case Punctuation punctuation -> Character.isWhitespace(punctuation.getSymbol()) ? punctuation : null;
+        };
+    }
+
+    /**
+     * Converts a word to lower case without allocating anything if it already is.
+     *
+     * @param word The word to convert.
+     * @return The word itself, or a new lower-case {@link Word}.
+     */
+    private static Word lowerCase(Word word) {
+        for (int i = 0; i < word.getLength(); i++) {
+            char c = word.charAt(i);
+            if (Character.toLowerCase(c) != c) {
+                char[] lower = new char[word.getLength()];
+                for (int j = 0; j < lower.length; j++) {
+                    lower[j] = Character.toLowerCase(word.charAt(j));
+                }
+                return new Word(new String(lower));
+            }
+        }
+        return word;
+    }
+}
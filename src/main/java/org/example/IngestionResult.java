@@ -0,0 +1,78 @@
+package org.example;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The outcome of a {@link CompressedTextIngestor} run: the parsed text and the utilization
+ * of every stage of the ingestion pipeline.
+ *
+ * <p>This class is immutable.
+ */
+public final class IngestionResult {
+
+    /** The parsed and processed text. */
+    private final Text text;
+
+    /** The utilization of every stage, in pipeline order. */
+    private final Map<String, Double> stageUtilization;
+
+    /**
+     * Constructs a result.
+     *
+     * @param text The parsed and processed text.
+     * @param stageUtilization The utilization of every stage, in pipeline order.
+     */
+    IngestionResult(Text text, Map<String, Double> stageUtilization) {
+        this.text = text;
+        this.stageUtilization = Collections.unmodifiableMap(new LinkedHashMap<>(stageUtilization));
+    }
+
+    /**
+     * Returns the parsed and processed text.
+     *
+     * @return The text.
+     */
+    public Text getText() {
+        return text;
+    }
+
+    /**
+     * Returns the utilization of every stage, as a fraction between 0 and 1 of the total
+     * wall-clock time that the stage spent working. The stages are, in order,
+     * {@code decompress}, {@code decode}, {@code parse} and {@code process}.
+     *
+     * @return An unmodifiable map from stage name to utilization, in pipeline order.
+     */
+    public Map<String, Double> getStageUtilization() {
+        return stageUtilization;
+    }
+
+    /**
+     * Returns the name of the stage with the highest utilization, which limits the throughput.
+     *
+     * @return The name of the bottleneck stage.
+     */
+    public String getBottleneckStage() {
+        return Collections.max(stageUtilization.entrySet(), Map.Entry.comparingByValue()).getKey();
+    }
+
+    /**
+     * Returns a summary of the stage utilization, for example
+     * {@code "decompress 35%, decode 12%, parse 97%, process 20%"}.
+     *
+     * @return The utilization summary.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Double> entry : stageUtilization.entrySet()) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(entry.getKey()).append(' ').append(Math.round(entry.getValue() * 100)).append('%');
+        }
+        return builder.toString();
+    }
+}
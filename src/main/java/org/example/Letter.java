@@ -7,6 +7,15 @@ package org.example;
  */
 public final class Letter {
 
+    /** Shared instances for the Latin-1 range, which covers most characters of typical text. */
+    private static final Letter[] CACHE = new Letter[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Letter((char) i);
+        }
+    }
+
     /** The character value of the letter. */
     private final char character;
 
@@ -19,6 +28,17 @@ public final class Letter {
         this.character = character;
     }
 
+    /**
+     * Returns a Letter for the given character. Letters in the Latin-1 range are shared instances,
+     * which is safe because this class is immutable; other characters get a new instance.
+     *
+     * @param character The character for the letter.
+     * @return A Letter holding the character.
+     */
+    public static Letter valueOf(char character) {
+        return (character < CACHE.length) ? CACHE[character] : new Letter(character);
+    }
+
     /**
      * Returns the character value of this letter.
      *
@@ -28,6 +48,27 @@ public final class Letter {
         return character;
     }
 
+    /**
+     * Compares this letter to another object. Two letters are equal if they hold the same character.
+     *
+     * @param other The object to compare with.
+     * @return {@code true} if {@code other} is a Letter with the same character.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Letter letter && letter.character == character;
+    }
+
+    /**
+     * Returns a hash code for this letter, which is the value of its character.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return character;
+    }
+
     /**
      * Returns the string representation of this letter.
      *
@@ -0,0 +1,421 @@
+package org.example;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An off-heap representation of a {@link Text}. The character data, the element boundaries and the
+ * sentence boundaries are stored in native memory obtained from an {@link Arena}, so a resident
+ * corpus costs only a handful of heap objects regardless of its size.
+ *
+ * <p>The memory is laid out as four segments:
+ * <ul>
+ *     <li>{@code chars} - the characters of every element, concatenated in text order;</li>
+ *     <li>{@code elementStarts} - the start offset of every element in {@code chars}, followed by
+ *     the total character count, so the length of element {@code i} is
+ *     {@code elementStarts[i + 1] - elementStarts[i]};</li>
+ *     <li>{@code elementKinds} - one byte per element telling a {@link Word} from a
+ *     {@link Punctuation};</li>
+ *     <li>{@code sentenceStarts} - the index of the first element of every sentence, followed by
+ *     the total element count.</li>
+ * </ul>
+ *
+ * <p>The lifetime of the memory is explicit. An instance created with {@link #OffHeapText(Text)}
+ * owns its arena and releases the memory in {@link #close()}. An instance created with
+ * {@link #OffHeapText(Text, Arena)} lives exactly as long as the supplied arena, and
+ * {@link #close()} leaves that arena alone. Any access to the contents of the text after the memory
+ * has been released throws {@link IllegalStateException}; the sentence and character counts are
+ * kept on the heap and stay available.
+ *
+ * <p>This class is immutable. It is thread-safe as long as its arena allows access from several
+ * threads; the arena owned by an instance is always a shared one.
+ */
+public final class OffHeapText implements AutoCloseable {
+
+    /** Kind marker for a {@link Word} element. */
+    private static final byte WORD = 0;
+
+    /** Kind marker for a {@link Punctuation} element. */
+    private static final byte PUNCTUATION = 1;
+
+    /** The arena that holds the segments of this text. */
+    private final Arena arena;
+
+    /** Whether this instance created {@link #arena} and is responsible for closing it. */
+    private final boolean ownsArena;
+
+    /** Whether {@link #close()} has been called; makes closing idempotent under concurrent calls. */
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /** The characters of all elements, concatenated in text order. */
+    private final MemorySegment chars;
+
+    /** Start offsets of every element in {@link #chars}, plus the total character count. */
+    private final MemorySegment elementStarts;
+
+    /** One kind marker per element. */
+    private final MemorySegment elementKinds;
+
+    /** Index of the first element of every sentence, plus the total element count. */
+    private final MemorySegment sentenceStarts;
+
+    /** The number of sentences in the text. */
+    private final long sentenceCount;
+
+    /** The number of elements in the text. */
+    private final long elementCount;
+
+    /** The number of characters in the text. */
+    private final long charCount;
+
+    /**
+     * Copies a {@link Text} into native memory owned by a new shared arena.
+     * The memory is released when {@link #close()} is called.
+     *
+     * @param text The text to copy. Must not be null.
+     * @throws IllegalArgumentException if {@code text} is null.
+     */
+    public OffHeapText(Text text) {
+        this(requireText(text), Arena.ofShared(), true);
+    }
+
+    /**
+     * Copies a {@link Text} into native memory allocated from the given arena.
+     * The memory is released when the arena is closed.
+     *
+     * @param text The text to copy. Must not be null.
+     * @param arena The arena to allocate from. Must not be null.
+     * @throws IllegalArgumentException if {@code text} or {@code arena} is null.
+     */
+    public OffHeapText(Text text, Arena arena) {
+        this(requireText(text), requireArena(arena), false);
+    }
+
+    /**
+     * Copies a {@link Text} into native memory allocated from the given arena.
+     *
+     * @param text The text to copy.
+     * @param arena The arena to allocate from.
+     * @param ownsArena Whether {@link #close()} should close the arena. An owned arena is also
+     *                  closed if copying fails, since no instance is left to close it.
+     */
+    private OffHeapText(Text text, Arena arena, boolean ownsArena) {
+        try {
+            List<Sentence> sentences = text.getSentences();
+
+            long elements = 0;
+            long characters = 0;
+            for (Sentence sentence : sentences) {
+                for (SentenceElement element : sentence.getElements()) {
+                    elements++;
+                    characters += lengthOf(element);
+                }
+            }
+
+            this.arena = arena;
+            this.ownsArena = ownsArena;
+            this.sentenceCount = sentences.size();
+            this.elementCount = elements;
+            this.charCount = characters;
+            this.chars = allocate(arena, ValueLayout.JAVA_CHAR, characters);
+            this.elementStarts = allocate(arena, ValueLayout.JAVA_LONG, elements + 1);
+            this.elementKinds = allocate(arena, ValueLayout.JAVA_BYTE, elements);
+            this.sentenceStarts = allocate(arena, ValueLayout.JAVA_LONG, sentenceCount + 1);
+
+            long elementIndex = 0;
+            long charIndex = 0;
+            long sentenceIndex = 0;
+            for (Sentence sentence : sentences) {
+                sentenceStarts.setAtIndex(ValueLayout.JAVA_LONG, sentenceIndex++, elementIndex);
+                for (SentenceElement element : sentence.getElements()) {
+                    elementStarts.setAtIndex(ValueLayout.JAVA_LONG, elementIndex, charIndex);
+                    charIndex = writeElement(element, elementIndex, charIndex);
+                    elementIndex++;
+                }
+            }
+            sentenceStarts.setAtIndex(ValueLayout.JAVA_LONG, sentenceCount, elementCount);
+            elementStarts.setAtIndex(ValueLayout.JAVA_LONG, elementCount, charCount);
+        } catch (RuntimeException | Error e) {
+            if (ownsArena) {
+                arena.close(); // Nobody else can release the memory allocated so far
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of sentences in the text. This remains available after the memory
+     * has been released.
+     *
+     * @return The sentence count.
+     */
+    public int getSentenceCount() {
+        return Math.toIntExact(sentenceCount);
+    }
+
+    /**
+     * Returns the total number of characters in the text. This remains available after the memory
+     * has been released.
+     *
+     * @return The character count.
+     */
+    public long getCharacterCount() {
+        return charCount;
+    }
+
+    /**
+     * Copies a single sentence back onto the heap.
+     *
+     * @param index The index of the sentence.
+     * @return A new {@link Sentence} equal in content to the stored one.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     * @throws IllegalStateException if the memory of this text has been released.
+     */
+    public Sentence getSentence(int index) {
+        if (index < 0 || index >= sentenceCount) {
+            throw new IndexOutOfBoundsException("Sentence index out of range: " + index);
+        }
+
+        long first = sentenceStarts.getAtIndex(ValueLayout.JAVA_LONG, index);
+        long last = sentenceStarts.getAtIndex(ValueLayout.JAVA_LONG, index + 1L);
+        List<SentenceElement> elements = new ArrayList<>(Math.toIntExact(last - first));
+        for (long i = first; i < last; i++) {
+            elements.add(readElement(i));
+        }
+        return new Sentence(elements);
+    }
+
+    /**
+     * Returns the sentences of the text, copied back onto the heap.
+     *
+     * @return An unmodifiable list of {@link Sentence} objects.
+     * @throws IllegalStateException if the memory of this text has been released.
+     */
+    public List<Sentence> getSentences() {
+        List<Sentence> sentences = new ArrayList<>(getSentenceCount());
+        for (int i = 0; i < sentenceCount; i++) {
+            sentences.add(getSentence(i));
+        }
+        return java.util.Collections.unmodifiableList(sentences);
+    }
+
+    /**
+     * Copies the whole text back onto the heap.
+     *
+     * @return A new {@link Text} equal in content to this one.
+     * @throws IllegalStateException if the memory of this text has been released.
+     */
+    public Text toText() {
+        return new Text(getSentences());
+    }
+
+    /**
+     * Creates a new off-heap text in which every word of the given length is replaced.
+     * The work is done directly on the native character data; no heap model is built.
+     * The result owns a new shared arena and must be closed by the caller.
+     *
+     * @param length The length of words to be replaced.
+     * @param replacement The characters of the replacement word.
+     * @return A new {@link OffHeapText} with the specified words replaced.
+     */
+    OffHeapText replaceWordsOfLength(int length, String replacement) {
+        return new OffHeapText(this, length, replacement, Arena.ofShared());
+    }
+
+    /**
+     * Builds a copy of {@code source} with every word of the given length replaced.
+     *
+     * @param source The text to copy.
+     * @param length The length of words to be replaced.
+     * @param replacement The characters of the replacement word.
+     * @param arena The arena to allocate from; owned by the new instance, and closed if copying fails.
+     */
+    private OffHeapText(OffHeapText source, int length, String replacement, Arena arena) {
+        try {
+            long characters = 0;
+            for (long i = 0; i < source.elementCount; i++) {
+                long elementLength = source.elementLength(i);
+                boolean replaced = source.isWord(i) && elementLength == length;
+                characters += replaced ? replacement.length() : elementLength;
+            }
+
+            this.arena = arena;
+            this.ownsArena = true;
+            this.sentenceCount = source.sentenceCount;
+            this.elementCount = source.elementCount;
+            this.charCount = characters;
+            this.chars = allocate(arena, ValueLayout.JAVA_CHAR, characters);
+            this.elementStarts = allocate(arena, ValueLayout.JAVA_LONG, elementCount + 1);
+            this.elementKinds = allocate(arena, ValueLayout.JAVA_BYTE, elementCount);
+            this.sentenceStarts = allocate(arena, ValueLayout.JAVA_LONG, sentenceCount + 1);
+
+            MemorySegment.copy(source.elementKinds, 0, elementKinds, 0, elementKinds.byteSize());
+            MemorySegment.copy(source.sentenceStarts, 0, sentenceStarts, 0, sentenceStarts.byteSize());
+
+            long charIndex = 0;
+            for (long i = 0; i < elementCount; i++) {
+                elementStarts.setAtIndex(ValueLayout.JAVA_LONG, i, charIndex);
+                long start = source.elementStarts.getAtIndex(ValueLayout.JAVA_LONG, i);
+                long elementLength = source.elementLength(i);
+                if (source.isWord(i) && elementLength == length) {
+                    for (int j = 0; j < replacement.length(); j++) {
+                        chars.setAtIndex(ValueLayout.JAVA_CHAR, charIndex + j, replacement.charAt(j));
+                    }
+                    charIndex += replacement.length();
+                } else {
+                    MemorySegment.copy(source.chars, ValueLayout.JAVA_CHAR, start * Character.BYTES,
+                            chars, ValueLayout.JAVA_CHAR, charIndex * Character.BYTES, elementLength);
+                    charIndex += elementLength;
+                }
+            }
+            elementStarts.setAtIndex(ValueLayout.JAVA_LONG, elementCount, charCount);
+        } catch (RuntimeException | Error e) {
+            arena.close(); // Nobody else can release the memory allocated so far
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the native memory if this instance owns its arena. Closing an instance that shares
+     * a caller-supplied arena has no effect. Closing again, even concurrently from another thread,
+     * has no effect.
+     */
+    @Override
+    public void close() {
+        if (ownsArena && closed.compareAndSet(false, true)) {
+            arena.close();
+        }
+    }
+
+    /**
+     * Returns the string representation of the entire text.
+     *
+     * @return The full text as a {@code String}.
+     * @throws IllegalStateException if the memory of this text has been released.
+     */
+    @Override
+    public String toString() {
+        char[] buffer = new char[Math.toIntExact(charCount)];
+        MemorySegment.copy(chars, ValueLayout.JAVA_CHAR, 0, buffer, 0, buffer.length);
+        return new String(buffer);
+    }
+
+    /**
+     * Writes the characters and kind of a heap element into native memory.
+     *
+     * @param element The element to write.
+     * @param elementIndex The index of the element.
+     * @param charIndex The offset at which its characters start.
+     * @return The offset just past the written characters.
+     */
+    private long writeElement(SentenceElement element, long elementIndex, long charIndex) {
+        switch (element) {
+            case Word word -> {
+                elementKinds.set(ValueLayout.JAVA_BYTE, elementIndex, WORD);
+                for (int i = 0; i < word.getLength(); i++) {
+                    chars.setAtIndex(ValueLayout.JAVA_CHAR, charIndex++, word.charAt(i));
+                }
+                return charIndex;
+            }
+            case Punctuation punctuation -> {
+                elementKinds.set(ValueLayout.JAVA_BYTE, elementIndex, PUNCTUATION);
+                chars.setAtIndex(ValueLayout.JAVA_CHAR, charIndex, punctuation.getSymbol());
+                return charIndex + 1;
+            }
+        }
+    }
+
+    /**
+     * Reads a single element from native memory and creates its heap counterpart.
+     *
+     * @param index The index of the element.
+     * @return A new {@link Word} or {@link Punctuation}.
+     */
+    private SentenceElement readElement(long index) {
+        long start = elementStarts.getAtIndex(ValueLayout.JAVA_LONG, index);
+        if (!isWord(index)) {
+            return new Punctuation(chars.getAtIndex(ValueLayout.JAVA_CHAR, start));
+        }
+        char[] buffer = new char[Math.toIntExact(elementLength(index))];
+        MemorySegment.copy(chars, ValueLayout.JAVA_CHAR, start * Character.BYTES, buffer, 0, buffer.length);
+        return new Word(new String(buffer));
+    }
+
+    /**
+     * Checks whether the element at the given index is a word.
+     *
+     * @param index The index of the element.
+     * @return {@code true} for a {@link Word}, {@code false} for a {@link Punctuation}.
+     */
+    private boolean isWord(long index) {
+        return elementKinds.get(ValueLayout.JAVA_BYTE, index) == WORD;
+    }
+
+    /**
+     * Returns the number of characters of the element at the given index.
+     *
+     * @param index The index of the element.
+     * @return The element length.
+     */
+    private long elementLength(long index) {
+        return elementStarts.getAtIndex(ValueLayout.JAVA_LONG, index + 1)
+                - elementStarts.getAtIndex(ValueLayout.JAVA_LONG, index);
+    }
+
+    /**
+     * Returns the number of characters a heap element occupies.
+     *
+     * @param element The element to measure.
+     * @return The number of characters.
+     */
+    private static long lengthOf(SentenceElement element) {
+        return switch (element) {
+            case Word word -> word.getLength();
+            case Punctuation punctuation -> 1;
+        };
+    }
+
+    /**
+     * Allocates a zero-filled segment able to hold {@code count} values of the given layout.
+     *
+     * @param arena The arena to allocate from.
+     * @param layout The layout of a single value.
+     * @param count The number of values.
+     * @return The allocated segment.
+     */
+    private static MemorySegment allocate(Arena arena, ValueLayout layout, long count) {
+        return arena.allocate(layout.byteSize() * count, layout.byteAlignment());
+    }
+
+    /**
+     * Validates the text argument of a public constructor.
+     *
+     * @param text The text to check.
+     * @return The same text.
+     * @throws IllegalArgumentException if {@code text} is null.
+     */
+    private static Text requireText(Text text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Input text cannot be null.");
+        }
+        return text;
+    }
+
+    /**
+     * Validates the arena argument of a public constructor.
+     *
+     * @param arena The arena to check.
+     * @return The same arena.
+     * @throws IllegalArgumentException if {@code arena} is null.
+     */
+    private static Arena requireArena(Arena arena) {
+        if (arena == null) {
+            throw new IllegalArgumentException("Arena cannot be null.");
+        }
+        return arena;
+    }
+}
@@ -8,6 +8,15 @@ package org.example;
  */
 public final class Punctuation implements SentenceElement {
 
+    /** Shared instances for the Latin-1 range, which covers spaces and all common punctuation marks. */
+    private static final Punctuation[] CACHE = new Punctuation[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Punctuation((char) i);
+        }
+    }
+
     /** The character symbol for the punctuation or delimiter. */
     private final char symbol;
 
@@ -20,6 +29,17 @@ public final class Punctuation implements SentenceElement {
         this.symbol = symbol;
     }
 
+    /**
+     * Returns a Punctuation for the given symbol. Symbols in the Latin-1 range are shared instances,
+     * which is safe because this class is immutable; other symbols get a new instance.
+     *
+     * @param symbol The character for the punctuation mark.
+     * @return A Punctuation holding the symbol.
+     */
+    public static Punctuation valueOf(char symbol) {
+        return (symbol < CACHE.length) ? CACHE[symbol] : new Punctuation(symbol);
+    }
+
     /**
      * Returns the character symbol.
      *
@@ -29,6 +49,28 @@ public final class Punctuation implements SentenceElement {
         return symbol;
     }
 
+    /**
+     * Compares this punctuation mark to another object. Two punctuation marks are equal if they
+     * hold the same symbol.
+     *
+     * @param other The object to compare with.
+     * @return {@code true} if {@code other} is a Punctuation with the same symbol.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Punctuation punctuation && punctuation.symbol == symbol;
+    }
+
+    /**
+     * Returns a hash code for this punctuation mark, which is the value of its symbol.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return symbol;
+    }
+
     /**
      * Returns the string representation of this punctuation mark.
      *
@@ -1,28 +1,49 @@
 package org.example;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Represents a sentence, which is composed of a sequence of {@link SentenceElement} objects.
+ * The elements are stored in a {@link ChunkedList}, so even a sentence with millions of elements
+ * can be processed by copying only the chunks that change, and traversed in parallel.
+ *
+ * <p>Sentences are compared by value: two sentences are equal if they have equal elements in the
+ * same order. The hash code is computed on first use and cached, so repeated sentences can be
+ * used as keys cheaply, as {@link TextProcessor} does for memoization.
  *
  * <p>This class is immutable.
  */
 public final class Sentence {
 
+    /**
+     * The number of elements above which {@link #mapElements(UnaryOperator)} processes
+     * the chunks of the sentence in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 64 * ChunkedList.CHUNK_SIZE;
+
     /** The list of elements (Words and Punctuation) that form the sentence. */
-    private final List<SentenceElement> elements;
+    private final ChunkedList<SentenceElement> elements;
+
+    /** The cached hash code, or 0 if it has not been computed yet. */
+    private int hash;
 
     /**
      * Constructs a Sentence from a list of {@link SentenceElement} objects.
      *
-     * @param elements The list of elements that make up the sentence. Must not be null.
+     * @param elements The list of elements that make up the sentence. Must not be null and must
+     *                 not contain null.
+     * @throws IllegalArgumentException if {@code elements} is null or contains null.
      */
     public Sentence(List<SentenceElement> elements) {
         if (elements == null) {
             throw new IllegalArgumentException("List of elements cannot be null.");
         }
-        this.elements = new ArrayList<>(elements);
+        this.elements = ChunkedList.copyOf(elements);
+        // A chunked list comes from another sentence or from mapElements, which removes nulls
+        if (!(elements instanceof ChunkedList) && this.elements.contains(null)) {
+            throw new IllegalArgumentException("Sentence elements cannot be null.");
+        }
     }
 
     /**
@@ -31,7 +52,63 @@ public final class Sentence {
      * @return An unmodifiable list of {@link SentenceElement} objects.
      */
     public List<SentenceElement> getElements() {
-        return java.util.Collections.unmodifiableList(elements);
+        return elements;
+    }
+
+    /**
+     * Creates a sentence with an operation applied to every element. Only the chunks of elements
+     * in which something changed are copied; very long sentences are processed in parallel.
+     *
+     * @param operation The operation to apply; it must be stateless. Elements for which it returns
+     *                  {@code null} are removed from the sentence.
+     * @return A new {@link Sentence}, or this sentence if no element changed.
+     */
+    Sentence mapElements(UnaryOperator<SentenceElement> operation) {
+        ChunkedList<SentenceElement> mapped = (elements.size() > PARALLEL_THRESHOLD)
+                ? elements.mapParallel(operation)
+                : elements.map(operation);
+        return (mapped == elements) ? this : new Sentence(mapped);
+    }
+
+    /**
+     * Compares this sentence to another object. Two sentences are equal if they have equal
+     * elements in the same order. Sentences with different cached hash codes are rejected
+     * without comparing elements.
+     *
+     * @param other The object to compare with.
+     * @return {@code true} if {@code other} is a Sentence with equal elements.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Sentence sentence) || sentence.elements.size() != elements.size()
+                || sentence.hashCode() != hashCode()) {
+            return false;
+        }
+        for (int i = 0; i < elements.size(); i++) {
+            if (!elements.get(i).equals(sentence.elements.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this sentence, computed from its elements like
+     * {@link List#hashCode()}. The value is computed on first use and cached.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = elements.hashCode();
+            hash = h; // Racy but safe: every thread computes the same value
+        }
+        return h;
     }
 
     /**
@@ -44,10 +121,22 @@ public final class Sentence {
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
-        for (Object element : this.elements) {
-            builder.append(element);
-        }
-
+        appendTo(builder);
         return builder.toString();
     }
+
+    /**
+     * Appends the characters of this sentence to a builder. Words and punctuation marks are
+     * appended character by character, so no intermediate string is created per element.
+     *
+     * @param builder The builder to append to.
+     */
+    void appendTo(StringBuilder builder) {
+        for (SentenceElement element : this.elements) {
+            switch (element) {
+                case Word word -> word.appendTo(builder);
+                case Punctuation punctuation -> builder.append(punctuation.getSymbol());
+            }
+        }
+    }
 }
@@ -1,9 +1,10 @@
 package org.example;
 
 /**
- * A marker interface for components that can be part of a sentence.
- * This provides a common type for classes like {@link Word} and {@link Punctuation}.
+ * A common type for the components that can be part of a sentence.
+ * The interface is sealed: every element is either a {@link Word} or a {@link Punctuation},
+ * so code that handles elements can use an exhaustive {@code switch} without a default branch.
  */
-public interface SentenceElement {
-    // This is a marker interface, so it has no methods.
-}
\ No newline at end of file
+public sealed interface SentenceElement permits Word, Punctuation {
+    // This interface only marks the permitted element types, so it has no methods.
+}
@@ -0,0 +1,135 @@
+package org.example;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * A concurrent, size-bounded cache of processed sentences, used by {@link TextProcessor} to avoid
+ * processing repeated sentences, such as boilerplate footers, more than once.
+ *
+ * <p>Entries are keyed by the input sentence and an operation key that describes the operation and
+ * its parameters; both are compared by value. Like {@link WordTable}, the cache is a fixed array of
+ * slots addressed by the combined hash: a new entry replaces whatever occupied its slot, so memory is
+ * bounded by the capacity whatever the input.
+ *
+ * <p>This class is thread-safe. Concurrent lookups of the same sentence may both process it,
+ * which is harmless because processing has no side effects.
+ */
+final class SentenceMemo {
+
+    /** The slots holding the cached entries. */
+    private final AtomicReferenceArray<Entry> slots;
+
+    /** The number of bits to shift a mixed hash right to obtain a slot index. */
+    private final int shift;
+
+    /** The number of lookups that returned a cached sentence. */
+    private final LongAdder hits = new LongAdder();
+
+    /** The number of lookups that had to process the sentence. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a cache with room for at least the given number of sentences.
+     * The capacity is rounded up to a power of two.
+     *
+     * @param capacity The minimum number of slots. Must be positive.
+     * @throws IllegalArgumentException if {@code capacity} is not positive or is too large.
+     */
+    SentenceMemo(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Memo capacity must be between 1 and 2^30.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(size);
+    }
+
+    /**
+     * Returns the processed form of a sentence, processing it only if no equal sentence has been
+     * processed with an equal operation key.
+     *
+     * @param sentence The sentence to process.
+     * @param operationKey The operation and its parameters; must implement value-based equality.
+     * @param operation The operation to apply on a miss.
+     * @return The processed sentence. If the operation left the sentence unchanged, the input
+     *         itself is returned, so callers can still detect that nothing changed.
+     */
+    Sentence process(Sentence sentence, Object operationKey, UnaryOperator<Sentence> operation) {
+        int hash = sentence.hashCode() * 31 + operationKey.hashCode();
+        int index = indexFor(hash);
+        Entry entry = slots.get(index);
+        if (entry != null && entry.hash == hash && entry.operationKey.equals(operationKey)
+                && entry.sentence.equals(sentence)) {
+            hits.increment();
+            return entry.unchanged() ? sentence : entry.result;
+        }
+
+        Sentence result = operation.apply(sentence);
+        slots.set(index, new Entry(hash, sentence, operationKey, result));
+        misses.increment();
+        return result;
+    }
+
+    /**
+     * Returns the number of slots in the cache, which bounds the number of sentences it retains.
+     *
+     * @return The capacity of the cache.
+     */
+    int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * Returns the number of lookups that returned a cached sentence.
+     *
+     * @return The hit count.
+     */
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to process the sentence.
+     *
+     * @return The miss count.
+     */
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Computes the slot index of a combined hash.
+     *
+     * @param hash The hash of the sentence and the operation key.
+     * @return The slot index.
+     */
+    private int indexFor(int hash) {
+        int mixed = hash * 0x9E3779B9; // Fibonacci hashing spreads the bits into the top of the word
+        return (shift == Integer.SIZE) ? 0 : mixed >>> shift;
+    }
+
+    /**
+     * A cached sentence together with the key it was processed under.
+     *
+     * @param hash The combined hash of the sentence and the operation key.
+     * @param sentence The input sentence.
+     * @param operationKey The operation and its parameters.
+     * @param result The processed sentence.
+     */
+    private record Entry(int hash, Sentence sentence, Object operationKey, Sentence result) {
+
+        /**
+         * Returns whether the operation left the sentence unchanged.
+         *
+         * @return {@code true} if the result is the input sentence itself.
+         */
+        boolean unchanged() {
+            return result == sentence;
+        }
+    }
+}
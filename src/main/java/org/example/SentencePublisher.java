@@ -0,0 +1,226 @@
+package org.example;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Publisher} that emits the sentences of a raw string as they are parsed.
+ * Parsing is driven by subscriber demand: a sentence is parsed only after it has been requested
+ * through {@link Flow.Subscription#request(long)}, so the memory held by the producer is bounded
+ * by the outstanding demand rather than by the size of the document.
+ *
+ * <p>Every subscriber gets its own {@link TextParser} and receives all sentences from the start.
+ * Signals to a subscriber are delivered on the given {@link Executor}, one at a time.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class SentencePublisher implements Flow.Publisher<Sentence> {
+
+    /** The raw string whose sentences are published. */
+    private final String rawText;
+
+    /** The executor that delivers signals to subscribers. */
+    private final Executor executor;
+
+    /**
+     * Constructs a publisher that delivers signals on the common fork-join pool.
+     *
+     * @param rawText The input string to parse. Must not be null.
+     * @throws IllegalArgumentException if {@code rawText} is null.
+     */
+    public SentencePublisher(String rawText) {
+        this(rawText, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a publisher that delivers signals on the given executor.
+     *
+     * @param rawText The input string to parse. Must not be null.
+     * @param executor The executor used to deliver signals. Must not be null.
+     * @throws IllegalArgumentException if {@code rawText} or {@code executor} is null.
+     */
+    public SentencePublisher(String rawText, Executor executor) {
+        if (rawText == null) {
+            throw new IllegalArgumentException("Input text cannot be null.");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null.");
+        }
+        this.rawText = rawText;
+        this.executor = executor;
+    }
+
+    /**
+     * Subscribes a new subscriber. Blank input is reported through
+     * {@link Flow.Subscriber#onError(Throwable)} with an {@link IllegalArgumentException}.
+     *
+     * @param subscriber The subscriber to receive the sentences. Must not be null.
+     * @throws NullPointerException if {@code subscriber} is null, as required by the Flow contract.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super Sentence> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null.");
+        }
+        new SentenceSubscription(subscriber).start();
+    }
+
+    /**
+     * A subscription that parses and delivers sentences as demand arrives.
+     * All signals are emitted from a drain loop that runs on {@link #executor} and is
+     * guarded by {@link #pendingDrains}, so at most one thread talks to the subscriber at a time.
+     */
+    private final class SentenceSubscription implements Flow.Subscription, Runnable {
+
+        /** The subscriber receiving the sentences. */
+        private final Flow.Subscriber<? super Sentence> subscriber;
+
+        /** The number of sentences requested but not yet delivered. */
+        private final AtomicLong demand = new AtomicLong();
+
+        /** The number of drain requests not yet handled by the drain loop. */
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+
+        /** A protocol violation reported through {@link #request(long)}, to be signalled by the drain loop. */
+        private volatile Throwable pendingError;
+
+        /** Whether the subscription has been cancelled or has reached a terminal state. */
+        private volatile boolean done;
+
+        /** Whether {@link Flow.Subscriber#onSubscribe(Flow.Subscription)} has been signalled. */
+        private boolean subscribed;
+
+        /** The parser behind {@link #sentences}; tells when the input is used up. */
+        private TextParser parser;
+
+        /** The lazy sentence source; created by the drain loop on first use. */
+        private Iterator<Sentence> sentences;
+
+        /**
+         * Creates a subscription for the given subscriber.
+         *
+         * @param subscriber The subscriber receiving the sentences.
+         */
+        private SentenceSubscription(Flow.Subscriber<? super Sentence> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Schedules the first drain, which signals {@code onSubscribe}.
+         */
+        private void start() {
+            scheduleDrain();
+        }
+
+        /**
+         * Adds to the outstanding demand. A non-positive request cancels the subscription and
+         * signals an {@link IllegalArgumentException}, as required by the Flow contract.
+         *
+         * @param n The number of additional sentences requested.
+         */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                pendingError = new IllegalArgumentException("Requested amount must be positive: " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return (sum < 0) ? Long.MAX_VALUE : sum; // Cap at "unbounded"
+                });
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Cancels the subscription. No further sentences are parsed or delivered.
+         */
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        /**
+         * Runs the drain loop on the executor unless it is already running.
+         */
+        private void scheduleDrain() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        /**
+         * The drain loop. Delivers as many sentences as the current demand allows and keeps
+         * looping while new drain requests arrive during delivery.
+         */
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Delivers sentences up to the outstanding demand and signals completion or errors.
+         */
+        private void drain() {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            if (done) {
+                return;
+            }
+            if (pendingError != null) {
+                fail(pendingError);
+                return;
+            }
+
+            try {
+                if (sentences == null) {
+                    parser = new TextParser();
+                    sentences = parser.iterateSentences(rawText);
+                }
+
+                long delivered = 0;
+                long requested = demand.get();
+                while (!done) {
+                    // Complete as soon as the input is used up, even without outstanding demand
+                    if (parser.isExhausted() || (delivered != requested && !sentences.hasNext())) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (delivered == requested) {
+                        // Pick up demand added while delivering, without parsing ahead of it
+                        requested = demand.addAndGet(-delivered);
+                        delivered = 0;
+                        if (requested == 0) {
+                            return;
+                        }
+                        continue;
+                    }
+                    subscriber.onNext(sentences.next());
+                    delivered++;
+                }
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Terminates the subscription with an error signal.
+         *
+         * @param error The error to signal.
+         */
+        private void fail(Throwable error) {
+            done = true;
+            subscriber.onError(error);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package org.example;
+
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link Flow.Processor} that replaces words of a given length in every sentence passing through it,
+ * using {@link TextProcessor#replaceWordsInSentence(Sentence, int, Word)}.
+ *
+ * <p>Each incoming sentence produces exactly one outgoing sentence, so demand is forwarded upstream
+ * unchanged: the processor never buffers and never requests more than its subscriber has asked for.
+ * It accepts a single subscriber; further subscribers receive an {@link IllegalStateException}.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class SentenceReplacementProcessor implements Flow.Processor<Sentence, Sentence> {
+
+    /** The processor that performs the replacement. */
+    private final TextProcessor processor;
+
+    /** The length of words to be replaced. */
+    private final int length;
+
+    /** The word to use as a replacement. */
+    private final Word replacement;
+
+    /** The upstream subscription, once received. */
+    private Flow.Subscription upstream;
+
+    /** The downstream subscriber, once subscribed. */
+    private Flow.Subscriber<? super Sentence> downstream;
+
+    /** Whether the downstream subscriber has received {@code onSubscribe}. */
+    private boolean connected;
+
+    /** Whether upstream has terminated before a downstream subscriber was connected. */
+    private boolean terminatedEarly;
+
+    /** The upstream error received before a downstream subscriber was connected, if any. */
+    private Throwable earlyError;
+
+    /**
+     * Constructs a processor that replaces words of the given length.
+     *
+     * @param processor The TextProcessor that performs the replacement. Must not be null.
+     * @param length The length of words to be replaced. Must be positive.
+     * @param replacement The Word to use as a replacement. Must not be null.
+     * @throws IllegalArgumentException if any of the inputs are invalid.
+     */
+    public SentenceReplacementProcessor(TextProcessor processor, int length, Word replacement) {
+        if (processor == null) {
+            throw new IllegalArgumentException("Text processor cannot be null.");
+        }
+        if (length <= 0) {
+            throw new IllegalArgumentException("Word length must be positive.");
+        }
+        if (replacement == null) {
+            throw new IllegalArgumentException("Replacement word cannot be null.");
+        }
+        this.processor = processor;
+        this.length = length;
+        this.replacement = replacement;
+    }
+
+    /**
+     * Subscribes the downstream subscriber. If the upstream subscription has already arrived,
+     * the subscriber is connected immediately; otherwise it is connected once it does.
+     * A terminal signal that upstream sent before any subscriber was connected is replayed.
+     *
+     * @param subscriber The subscriber to receive the processed sentences. Must not be null.
+     * @throws NullPointerException if {@code subscriber} is null, as required by the Flow contract.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super Sentence> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null.");
+        }
+
+        boolean accepted;
+        Flow.Subscription subscription;
+        synchronized (this) {
+            accepted = (downstream == null);
+            if (accepted) {
+                downstream = subscriber;
+            }
+            subscription = upstream;
+        }
+
+        if (!accepted) {
+            rejectSubscriber(subscriber);
+        } else if (subscription != null) {
+            connect(subscriber, subscription);
+        }
+    }
+
+    /**
+     * Receives the upstream subscription. A second subscription is cancelled.
+     *
+     * @param subscription The upstream subscription.
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Flow.Subscriber<? super Sentence> subscriber;
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            subscriber = downstream;
+        }
+
+        if (subscriber != null) {
+            connect(subscriber, subscription);
+        }
+    }
+
+    /**
+     * Replaces the words of one sentence and passes the result downstream.
+     *
+     * @param sentence The sentence to process.
+     */
+    @Override
+    public void onNext(Sentence sentence) {
+        currentDownstream().onNext(processor.replaceWordsInSentence(sentence, length, replacement));
+    }
+
+    /**
+     * Forwards an upstream error downstream.
+     *
+     * @param error The upstream error.
+     */
+    @Override
+    public void onError(Throwable error) {
+        terminate(error);
+    }
+
+    /**
+     * Forwards upstream completion downstream.
+     */
+    @Override
+    public void onComplete() {
+        terminate(null);
+    }
+
+    /**
+     * Forwards a terminal signal downstream, or keeps it for replay if no subscriber is connected yet.
+     *
+     * @param error The upstream error, or {@code null} for completion.
+     */
+    private void terminate(Throwable error) {
+        Flow.Subscriber<? super Sentence> subscriber;
+        synchronized (this) {
+            subscriber = downstream;
+            if (!connected) {
+                terminatedEarly = true;
+                earlyError = error;
+                return;
+            }
+        }
+        signalTerminal(subscriber, error);
+    }
+
+    /**
+     * Hands the upstream subscription to the downstream subscriber, then replays a terminal
+     * signal that arrived before the subscriber was connected.
+     *
+     * @param subscriber The downstream subscriber.
+     * @param subscription The upstream subscription.
+     */
+    private void connect(Flow.Subscriber<? super Sentence> subscriber, Flow.Subscription subscription) {
+        subscriber.onSubscribe(subscription);
+
+        boolean terminated;
+        Throwable error;
+        synchronized (this) {
+            connected = true;
+            terminated = terminatedEarly;
+            error = earlyError;
+        }
+        if (terminated) {
+            signalTerminal(subscriber, error);
+        }
+    }
+
+    /**
+     * Signals {@code onError} or {@code onComplete} to a subscriber.
+     *
+     * @param subscriber The subscriber to signal.
+     * @param error The error to signal, or {@code null} for completion.
+     */
+    private static void signalTerminal(Flow.Subscriber<? super Sentence> subscriber, Throwable error) {
+        if (error != null) {
+            subscriber.onError(error);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Returns the downstream subscriber. Items can only arrive after a request, and requests
+     * can only come from a connected downstream subscriber.
+     *
+     * @return The downstream subscriber.
+     */
+    private synchronized Flow.Subscriber<? super Sentence> currentDownstream() {
+        return downstream;
+    }
+
+    /**
+     * Rejects an additional subscriber with an {@link IllegalStateException}.
+     *
+     * @param subscriber The rejected subscriber.
+     */
+    private void rejectSubscriber(Flow.Subscriber<? super Sentence> subscriber) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                // Nothing will ever be delivered.
+            }
+
+            @Override
+            public void cancel() {
+                // Nothing to cancel.
+            }
+        });
+        subscriber.onError(new IllegalStateException("This processor supports only one subscriber."));
+    }
+}
@@ -1,30 +1,35 @@
 package org.example;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
 
 /**
  * Represents a full text, which is composed of a sequence of Sentence objects. This is the
- * top-level container for the text structure.
+ * top-level container for the text structure. The sentences are stored in a {@link ChunkedList}.
  *
  * <p>This class is immutable.
  */
 public final class Text {
 
     /** The list of sentences that form the text. */
-    private final List<Sentence> sentences;
+    private final ChunkedList<Sentence> sentences;
 
     /**
      * Constructs a Text object from a list of Sentence objects.
      *
-     * @param sentences The list of sentences that make up the text. Must not be null.
+     * @param sentences The list of sentences that make up the text. Must not be null and must
+     *                  not contain null.
+     * @throws IllegalArgumentException if {@code sentences} is null or contains null.
      */
     public Text(List<Sentence> sentences) {
         if (sentences == null) {
             throw new IllegalArgumentException("List of sentences cannot be null.");
         }
-        this.sentences = new ArrayList<>(sentences);
+        this.sentences = ChunkedList.copyOf(sentences);
+        // A chunked list comes from another text or from mapSentences, which removes nulls
+        if (!(sentences instanceof ChunkedList) && this.sentences.contains(null)) {
+            throw new IllegalArgumentException("Text sentences cannot be null.");
+        }
     }
 
     /**
@@ -33,7 +38,19 @@ public final class Text {
      * @return An unmodifiable list of Sentence objects.
      */
     public List<Sentence> getSentences() {
-        return java.util.Collections.unmodifiableList(sentences);
+        return sentences;
+    }
+
+    /**
+     * Creates a text with an operation applied to every sentence. Only the chunks of sentences
+     * in which something changed are copied.
+     *
+     * @param operation The operation to apply. Sentences for which it returns {@code null} are removed.
+     * @return A new {@link Text}, or this text if no sentence changed.
+     */
+    Text mapSentences(UnaryOperator<Sentence> operation) {
+        ChunkedList<Sentence> mapped = sentences.map(operation);
+        return (mapped == sentences) ? this : new Text(mapped);
     }
 
     /**
@@ -45,6 +62,11 @@ public final class Text {
      */
     @Override
     public String toString() {
-        return sentences.stream().map(Object::toString).collect(Collectors.joining());
+        StringBuilder builder = new StringBuilder();
+        for (Sentence sentence : sentences) {
+            sentence.appendTo(builder);
+        }
+
+        return builder.toString();
     }
 }
@@ -1,17 +1,32 @@
 package org.example;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * A parser that converts a raw string into a structured {@link Text} object.
  * It uses a stateful approach to build sentences and words character by character.
  * This class is designed to be reusable but is not thread-safe.
+ *
+ * <p>Optionally, the parser can intern words through a {@link WordTable}, so that repeated words
+ * share one {@link Word} instance. A single table may be shared by parsers on different threads.
  */
 public class TextParser {
 
-    /** Stores all completed sentences found during parsing. */
-    private List<Sentence> allSentences;
+    /** The table used to intern words, or {@code null} if every word gets its own instance. */
+    private final WordTable wordTable;
+
+    /** The normalized text currently being parsed. */
+    private String normalizedText;
+
+    /** The index of the next character of {@link #normalizedText} to process. */
+    private int position;
+
+    /** The most recently completed sentence, not yet handed out to the caller. */
+    private Sentence completedSentence;
 
     /** Stores {@link SentenceElement} objects for the sentence currently being built. */
     private List<SentenceElement> currentSentenceElements;
@@ -19,6 +34,36 @@ public class TextParser {
     /** Accumulates characters to form the word currently being built. */
     private StringBuilder currentWordBuilder;
 
+    /** In streaming mode, the whitespace seen since the last visible character, not yet processed. */
+    private StringBuilder pendingWhitespace;
+
+    /** In streaming mode, whether a visible character (above {@code ' '}) has been processed. */
+    private boolean seenVisibleCharacter;
+
+    /** In streaming mode, whether any non-whitespace character has been fed. */
+    private boolean seenNonWhitespace;
+
+    /**
+     * Constructs a parser that creates a new {@link Word} for every word it reads.
+     */
+    public TextParser() {
+        this.wordTable = null;
+    }
+
+    /**
+     * Constructs a parser that interns words through the given table, so that identical words
+     * share one {@link Word} instance.
+     *
+     * @param wordTable The table used to intern words. Must not be null.
+     * @throws IllegalArgumentException if {@code wordTable} is null.
+     */
+    public TextParser(WordTable wordTable) {
+        if (wordTable == null) {
+            throw new IllegalArgumentException("Word table cannot be null.");
+        }
+        this.wordTable = wordTable;
+    }
+
     /**
      * Parses a raw string into a structured {@link Text} object. This is the main entry point.
      * The method first normalizes the input text, then processes it character by character
@@ -29,25 +74,206 @@ public class TextParser {
      * @throws IllegalArgumentException if the {@code rawText} is null or empty.
      */
     public Text parse(String rawText) {
+        startParsing(rawText);
+
+        List<Sentence> allSentences = new ArrayList<>();
+        Sentence sentence;
+        while ((sentence = parseNextSentence()) != null) {
+            allSentences.add(sentence);
+        }
+
+        return new Text(allSentences);
+    }
+
+    /**
+     * Returns a lazy iterator over the sentences of a raw string. Each call to
+     * {@link Iterator#hasNext()} parses only as far as the end of the next sentence, so callers
+     * that consume sentences one at a time never hold more than one parsed sentence at once.
+     *
+     * <p>The iterator shares the state of this parser: calling {@link #parse(String)} or
+     * {@code iterateSentences} again invalidates any iterator obtained earlier.
+     *
+     * @param rawText The input string to parse.
+     * @return An iterator over the {@link Sentence} objects of the input string.
+     * @throws IllegalArgumentException if the {@code rawText} is null or empty.
+     */
+    public Iterator<Sentence> iterateSentences(String rawText) {
+        startParsing(rawText);
+
+        return new Iterator<>() {
+            /** The next sentence to return, or null if it has not been parsed yet. */
+            private Sentence next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = parseNextSentence();
+                }
+                return next != null;
+            }
+
+            @Override
+            public Sentence next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more sentences in the text.");
+                }
+                Sentence sentence = next;
+                next = null;
+                return sentence;
+            }
+        };
+    }
+
+    /**
+     * Returns whether a parse started by {@link #iterateSentences(String)} has consumed the whole
+     * input and holds no pending elements, so no further sentence can follow. This check does not
+     * parse ahead. A sentence already parsed by the iterator's {@code hasNext()} but not yet returned
+     * by {@code next()} is not taken into account.
+     *
+     * @return {@code true} if the iteration has no sentences left.
+     */
+    boolean isExhausted() {
+        return position >= normalizedText.length() && completedSentence == null
+                && currentSentenceElements.isEmpty() && currentWordBuilder.length() == 0;
+    }
+
+    /**
+     * Validates and normalizes the input and resets the parser state for a new parsing operation.
+     *
+     * @param rawText The input string to parse.
+     * @throws IllegalArgumentException if the {@code rawText} is null or empty.
+     */
+    private void startParsing(String rawText) {
         if (rawText == null || rawText.isBlank()) {
             throw new IllegalArgumentException("Input text cannot be null, empty, or blank.");
         }
 
-        String normalizedText = normalizeText(rawText);
-
         // Initialize state for the new parsing operation
-        this.allSentences = new ArrayList<>();
+        this.normalizedText = normalizeText(rawText);
+        this.position = 0;
+        this.completedSentence = null;
         this.currentSentenceElements = new ArrayList<>();
         this.currentWordBuilder = new StringBuilder();
+    }
 
-        for (char c : normalizedText.toCharArray()) {
-            processCharacter(c);
+    /**
+     * Processes characters until the next sentence is complete.
+     * Once the input is exhausted, any remaining elements form the last sentence.
+     *
+     * @return The next {@link Sentence}, or {@code null} if the whole text has been parsed.
+     */
+    private Sentence parseNextSentence() {
+        while (completedSentence == null && position < normalizedText.length()) {
+            processCharacter(normalizedText.charAt(position++));
         }
 
-        // Finalize parsing by adding any remaining elements
+        if (completedSentence == null) {
+            // Finalize parsing by adding any remaining elements
+            addRemainingElements();
+        }
+
+        Sentence sentence = completedSentence;
+        completedSentence = null;
+        return sentence;
+    }
+
+    /**
+     * Starts a streaming parse, in which the input arrives in pieces through
+     * {@link #feed(char[], int, int, Consumer)}. Streaming produces the same sentences as
+     * {@link #parse(String)} on the concatenated input: whitespace is normalized on the fly.
+     */
+    void startStreaming() {
+        this.completedSentence = null;
+        this.currentSentenceElements = new ArrayList<>();
+        this.currentWordBuilder = new StringBuilder();
+        this.pendingWhitespace = new StringBuilder();
+        this.seenVisibleCharacter = false;
+        this.seenNonWhitespace = false;
+    }
+
+    /**
+     * Feeds the next piece of input to a streaming parse. Every sentence completed by this piece
+     * is passed to the sink.
+     *
+     * @param characters The buffer holding the input.
+     * @param offset The position of the first character in the buffer.
+     * @param length The number of characters to feed.
+     * @param sink The consumer of completed sentences.
+     */
+    void feed(char[] characters, int offset, int length, Consumer<Sentence> sink) {
+        for (int i = offset; i < offset + length; i++) {
+            char c = characters[i];
+            if (!Character.isWhitespace(c)) {
+                seenNonWhitespace = true;
+            }
+
+            // Mirror normalizeText(): trim() drops everything up to ' ' at both ends, and runs of
+            // tabs and spaces collapse into one space. Whitespace is held back until a visible
+            // character shows that it is not trailing.
+            if (c <= ' ') {
+                if (seenVisibleCharacter) {
+                    pendingWhitespace.append(c);
+                }
+                continue;
+            }
+            flushPendingWhitespace(sink);
+            processStreamedCharacter(c, sink);
+        }
+    }
+
+    /**
+     * Finishes a streaming parse, passing the last sentence, if any, to the sink.
+     *
+     * @param sink The consumer of completed sentences.
+     * @throws IllegalArgumentException if the whole input was empty or blank.
+     */
+    void finishStreaming(Consumer<Sentence> sink) {
+        if (!seenNonWhitespace) {
+            throw new IllegalArgumentException("Input text cannot be null, empty, or blank.");
+        }
         addRemainingElements();
+        if (completedSentence != null) {
+            sink.accept(completedSentence);
+            completedSentence = null;
+        }
+    }
 
-        return new Text(allSentences);
+    /**
+     * Processes the whitespace held back since the last visible character,
+     * collapsing every run of tabs and spaces into a single space.
+     *
+     * @param sink The consumer of completed sentences.
+     */
+    private void flushPendingWhitespace(Consumer<Sentence> sink) {
+        boolean inSpaceRun = false;
+        for (int i = 0; i < pendingWhitespace.length(); i++) {
+            char c = pendingWhitespace.charAt(i);
+            if (c == ' ' || c == '\t') {
+                if (!inSpaceRun) {
+                    processStreamedCharacter(' ', sink);
+                }
+                inSpaceRun = true;
+            } else {
+                processStreamedCharacter(c, sink);
+                inSpaceRun = false;
+            }
+        }
+        pendingWhitespace.setLength(0);
+        seenVisibleCharacter = true;
+    }
+
+    /**
+     * Processes one normalized character in streaming mode and hands out a completed sentence.
+     *
+     * @param c The character to process.
+     * @param sink The consumer of completed sentences.
+     */
+    private void processStreamedCharacter(char c, Consumer<Sentence> sink) {
+        processCharacter(c);
+        if (completedSentence != null) {
+            sink.accept(completedSentence);
+            completedSentence = null;
+        }
     }
 
     /**
@@ -84,7 +310,7 @@ public class TextParser {
      */
     private void handleNonWordCharacter(char currentChar) {
         flushWord(); // Save the word that came before this punctuation
-        currentSentenceElements.add(new Punctuation(currentChar));
+        currentSentenceElements.add(Punctuation.valueOf(currentChar));
 
         if (isSentenceTerminator(currentChar)) {
             flushSentence(); // If it's a sentence-ending punctuation, save the sentence
@@ -93,24 +319,27 @@ public class TextParser {
 
     /**
      * Checks if a word is currently being built in {@code currentWordBuilder}.
-     * If so, it creates a new {@link Word} object, adds it to the current sentence's elements,
-     * and resets the builder to start a new word.
+     * If so, it creates a new {@link Word} object (or takes the interned one), adds it to the
+     * current sentence's elements, and resets the builder to start a new word.
      */
     private void flushWord() {
         if (currentWordBuilder.length() > 0) {
-            currentSentenceElements.add(new Word(currentWordBuilder.toString()));
+            Word word = (wordTable != null)
+                    ? wordTable.intern(currentWordBuilder)
+                    : Word.of(currentWordBuilder);
+            currentSentenceElements.add(word);
             currentWordBuilder.setLength(0); // Reset for the next word
         }
     }
 
     /**
      * Checks if the current sentence has any elements. If so, it creates a new
-     * {@link Sentence} object, adds it to the main list of sentences, and resets the
+     * {@link Sentence} object, stores it as the completed sentence, and resets the
      * list of elements to begin a new sentence.
      */
     private void flushSentence() {
         if (!currentSentenceElements.isEmpty()) {
-            allSentences.add(new Sentence(currentSentenceElements));
+            completedSentence = new Sentence(currentSentenceElements);
             currentSentenceElements = new ArrayList<>(); // Start a new empty sentence
         }
     }
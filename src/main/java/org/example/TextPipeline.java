@@ -0,0 +1,81 @@
+package org.example;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * A composable pipeline of {@link ElementTransform} stages over the text model.
+ *
+ * <p>Stages are composed first and then run together: applying the pipeline makes a single pass
+ * over the elements of every sentence and hands each element through all stages at once, instead
+ * of rebuilding the whole model after every stage. The result is built in one go, and sentences or
+ * chunks of elements that no stage changes are shared with the input.
+ *
+ * <p>This class is immutable and thread-safe; {@link #then(ElementTransform)} returns a new pipeline.
+ */
+public final class TextPipeline {
+
+    /** The composition of all stages, or {@code null} for an empty pipeline. */
+    private final ElementTransform transform;
+
+    /** The composed transform in the form expected by {@link Sentence#mapElements(UnaryOperator)}. */
+    private final UnaryOperator<SentenceElement> operator;
+
+    /**
+     * Constructs an empty pipeline, which leaves every text unchanged.
+     */
+    public TextPipeline() {
+        this(null);
+    }
+
+    /**
+     * Constructs a pipeline from an already composed transform.
+     *
+     * @param transform The composed transform, or {@code null} for an empty pipeline.
+     */
+    private TextPipeline(ElementTransform transform) {
+        this.transform = transform;
+        this.operator = (transform == null) ? null : transform::apply;
+    }
+
+    /**
+     * Returns a pipeline that runs all stages of this pipeline followed by the given stage.
+     *
+     * @param stage The stage to append. Must not be null.
+     * @return A new {@link TextPipeline}.
+     * @throws IllegalArgumentException if {@code stage} is null.
+     */
+    public TextPipeline then(ElementTransform stage) {
+        if (stage == null) {
+            throw new IllegalArgumentException("Pipeline stage cannot be null.");
+        }
+        return new TextPipeline((transform == null) ? stage : transform.andThen(stage));
+    }
+
+    /**
+     * Runs all stages over a text in a single pass.
+     *
+     * @param text The input Text object to process. Must not be null.
+     * @return A {@link Text} object with all stages applied, or the input itself if nothing changed.
+     * @throws IllegalArgumentException if {@code text} is null.
+     */
+    public Text apply(Text text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Input text cannot be null.");
+        }
+        return (transform == null) ? text : text.mapSentences(sentence -> sentence.mapElements(operator));
+    }
+
+    /**
+     * Runs all stages over a single sentence in a single pass.
+     *
+     * @param sentence The input Sentence object to process. Must not be null.
+     * @return A {@link Sentence} object with all stages applied, or the input itself if nothing changed.
+     * @throws IllegalArgumentException if {@code sentence} is null.
+     */
+    public Sentence apply(Sentence sentence) {
+        if (sentence == null) {
+            throw new IllegalArgumentException("Input sentence cannot be null.");
+        }
+        return (transform == null) ? sentence : sentence.mapElements(operator);
+    }
+}
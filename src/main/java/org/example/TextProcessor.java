@@ -1,66 +1,174 @@
 package org.example;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * A class containing methods to process a structured Text object.
  * This class performs non-destructive operations on the text by manipulating its component objects.
+ * Each operation is a single-stage {@link TextPipeline}; use a pipeline directly to combine several
+ * operations in one pass.
+ *
+ * <p>A processor can optionally memoize sentence-level results in a bounded cache. Documents full
+ * of repeated sentences, such as legal footers or template lines, then process each distinct
+ * sentence once per operation and share the result among all copies. The cache is keyed by the
+ * sentence value and the operation parameters, and is safe for concurrent use.
  */
 public class TextProcessor {
 
+    /** The cache of processed sentences, or {@code null} if memoization is disabled. */
+    private final SentenceMemo memo;
+
+    /**
+     * Constructs a processor that does not memoize results.
+     */
+    public TextProcessor() {
+        this.memo = null;
+    }
+
+    /**
+     * Constructs a processor that memoizes up to roughly the given number of processed sentences.
+     * Sentences beyond the capacity evict earlier ones, so memory stays bounded.
+     *
+     * @param memoCapacity The minimum number of cache slots. Must be positive.
+     * @throws IllegalArgumentException if {@code memoCapacity} is not positive or is too large.
+     */
+    public TextProcessor(int memoCapacity) {
+        this.memo = new SentenceMemo(memoCapacity);
+    }
+
     /**
      * Replaces all words of a specified length in a {@link Text} object with a given replacement word.
-     * This method orchestrates the validation and processing, returning a new Text object.
+     * This method orchestrates the validation and processing, returning a new Text object
+     * that shares every unchanged part with the input.
      *
      * @param text The input Text object to process.
      * @param length The length of words to be replaced.
      * @param replacement The Word to use as a replacement.
-     * @return A new {@link Text} object with the specified words replaced.
+     * @return A {@link Text} object with the specified words replaced, or the input itself if none matched.
      * @throws IllegalArgumentException if any of the inputs are invalid.
      */
     public Text replaceWordsOfLength(Text text, int length, Word replacement) {
         validateInputs(text, length, replacement);
 
-        List<Sentence> processedSentences = new ArrayList<>();
-        for (Sentence originalSentence : text.getSentences()) {
-            Sentence processedSentence = processSentence(originalSentence, length, replacement);
-            processedSentences.add(processedSentence);
+        TextPipeline pipeline = new TextPipeline().then(ElementTransform.replaceWordsOfLength(length, replacement));
+        return apply(text, new LengthReplacement(length, replacement), pipeline);
+    }
+
+    /**
+     * Replaces every word found in a {@link WordDictionary} with the replacement stored for it.
+     * All dictionary entries are matched in a single pass over the text; each word is looked up
+     * in time proportional to its length, without creating a {@code String}.
+     *
+     * @param text The input Text object to process.
+     * @param dictionary The dictionary of words and their replacements.
+     * @return A {@link Text} object with every dictionary word replaced, or the input itself if none matched.
+     * @throws IllegalArgumentException if text or dictionary is null.
+     */
+    public Text replaceWordsFromDictionary(Text text, WordDictionary dictionary) {
+        if (text == null) {
+            throw new IllegalArgumentException("Input text cannot be null.");
+        }
+        if (dictionary == null) {
+            throw new IllegalArgumentException("Dictionary cannot be null.");
         }
 
-        return new Text(processedSentences);
+        TextPipeline pipeline = new TextPipeline().then(ElementTransform.replaceFromDictionary(dictionary));
+        return apply(text, dictionary, pipeline); // Dictionaries are immutable, so identity is a valid key
     }
 
     /**
-     * Processes a single sentence, creating a new sentence with words of the specified length replaced.
+     * Replaces all words of a specified length in a single {@link Sentence} with a given replacement word.
+     * This is the per-sentence form of {@link #replaceWordsOfLength(Text, int, Word)}, meant for callers
+     * that handle sentences one at a time, such as {@link SentenceReplacementProcessor}.
      *
-     * @param sentence The original sentence to process.
-     * @param length The target length of words to replace.
-     * @param replacement The word to use as a replacement.
-     * @return A new {@link Sentence} object with the transformations applied.
+     * @param sentence The input Sentence object to process.
+     * @param length The length of words to be replaced.
+     * @param replacement The Word to use as a replacement.
+     * @return A {@link Sentence} object with the specified words replaced, or the input itself if none matched.
+     * @throws IllegalArgumentException if any of the inputs are invalid.
      */
-    private Sentence processSentence(Sentence sentence, int length, Word replacement) {
-        List<SentenceElement> newSentenceElements = new ArrayList<>();
-        for (SentenceElement element : sentence.getElements()) {
-            newSentenceElements.add(processElement(element, length, replacement));
+    public Sentence replaceWordsInSentence(Sentence sentence, int length, Word replacement) {
+        if (sentence == null) {
+            throw new IllegalArgumentException("Input sentence cannot be null.");
         }
-        return new Sentence(newSentenceElements);
+        validateReplacement(length, replacement);
+
+        TextPipeline pipeline = new TextPipeline().then(ElementTransform.replaceWordsOfLength(length, replacement));
+        return (memo == null)
+                ? pipeline.apply(sentence)
+                : memo.process(sentence, new LengthReplacement(length, replacement), pipeline::apply);
     }
 
     /**
-     * Processes a single element from a sentence. If the element is a {@link Word} of the target
-     * length, it returns the replacement. Otherwise, it returns the original element.
+     * Replaces all words of a specified length in an {@link OffHeapText} with a given replacement word.
+     * The replacement is performed on the native character data, so no heap model of the text is built.
+     * The returned text owns its own memory and must be closed by the caller.
      *
-     * @param element The sentence element to process.
-     * @param length The target length for replacement.
-     * @param replacement The replacement word.
-     * @return The original or replacement {@link SentenceElement}.
+     * @param text The input OffHeapText object to process.
+     * @param length The length of words to be replaced.
+     * @param replacement The Word to use as a replacement.
+     * @return A new {@link OffHeapText} object with the specified words replaced.
+     * @throws IllegalArgumentException if any of the inputs are invalid.
+     * @throws IllegalStateException if the memory of {@code text} has been released.
+     */
+    public OffHeapText replaceWordsOfLengthOffHeap(OffHeapText text, int length, Word replacement) {
+        if (text == null) {
+            throw new IllegalArgumentException("Input text cannot be null.");
+        }
+        validateReplacement(length, replacement);
+
+        return text.replaceWordsOfLength(length, replacement.toString());
+    }
+
+    /**
+     * Returns whether this processor memoizes sentence-level results.
+     *
+     * @return {@code true} if the processor was created with a memo capacity.
+     */
+    public boolean isMemoizing() {
+        return memo != null;
+    }
+
+    /**
+     * Returns the number of sentences whose result was taken from the memo cache.
+     *
+     * @return The hit count, or 0 if memoization is disabled.
+     */
+    public long getMemoHitCount() {
+        return (memo == null) ? 0 : memo.getHitCount();
+    }
+
+    /**
+     * Returns the number of sentences that had to be processed because the memo cache held no result.
+     *
+     * @return The miss count, or 0 if memoization is disabled.
      */
-    private SentenceElement processElement(SentenceElement element, int length, Word replacement) {
-        if (element instanceof Word currentWord) {
-            return (currentWord.getLength() == length) ? replacement : currentWord;
+    public long getMemoMissCount() {
+        return (memo == null) ? 0 : memo.getMissCount();
+    }
+
+    /**
+     * Returns the share of sentence lookups that were answered by the memo cache.
+     *
+     * @return The hit rate between 0 and 1, or 0 if no lookup has been made.
+     */
+    public double getMemoHitRate() {
+        long hits = getMemoHitCount();
+        long total = hits + getMemoMissCount();
+        return (total == 0) ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Applies a pipeline to a text, going through the memo cache sentence by sentence if it is enabled.
+     *
+     * @param text The text to process.
+     * @param operationKey The operation and its parameters, compared by value.
+     * @param pipeline The pipeline that performs the operation.
+     * @return The processed text, or the input itself if no sentence changed.
+     */
+    private Text apply(Text text, Object operationKey, TextPipeline pipeline) {
+        if (memo == null) {
+            return pipeline.apply(text);
         }
-        return element; // Return Punctuation or any other element type unchanged.
+        return text.mapSentences(sentence -> memo.process(sentence, operationKey, pipeline::apply));
     }
 
     /**
@@ -75,6 +183,17 @@ public class TextProcessor {
         if (text == null) {
             throw new IllegalArgumentException("Input text cannot be null.");
         }
+        validateReplacement(length, replacement);
+    }
+
+    /**
+     * Validates the length and replacement arguments shared by all word replacement operations.
+     *
+     * @param length The target word length.
+     * @param replacement The replacement Word.
+     * @throws IllegalArgumentException if replacement is null, or if length is not positive.
+     */
+    private void validateReplacement(int length, Word replacement) {
         if (length <= 0) {
             throw new IllegalArgumentException("Word length must be positive.");
         }
@@ -82,4 +201,13 @@ public class TextProcessor {
             throw new IllegalArgumentException("Replacement word cannot be null.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The memo key of a length replacement: the word length and the replacement word.
+     *
+     * @param length The length of the words to replace.
+     * @param replacement The replacement word.
+     */
+    private record LengthReplacement(int length, Word replacement) {
+    }
+}
@@ -0,0 +1,334 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Writes a {@link Text} to a file as UTF-8, encoding and writing sentences in parallel.
+ *
+ * <p>Rendering happens in three steps. First, the encoded byte length of every sentence is
+ * computed in parallel. Second, the lengths are prefix-summed into file offsets, and the sentences
+ * are grouped into batches of roughly equal size. Third, the batches are encoded in parallel, each
+ * into a native buffer taken from a pool, and written with positional
+ * {@link FileChannel#write(ByteBuffer, long)} calls, so no giant {@code String} is ever built and
+ * the workers never wait for each other. The pool holds at most one buffer per worker and is
+ * allocated from an {@link Arena} that is closed when {@code render} returns, so no native memory
+ * outlives the call.
+ *
+ * <p>The output is byte-identical to {@code text.toString().getBytes(StandardCharsets.UTF_8)}:
+ * unpaired surrogates are written as {@code '?'}, as {@link String#getBytes} does. Surrogate pairs
+ * are recognized within a sentence, which is always the case for text built by {@link TextParser}.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class TextRenderer {
+
+    /** The default size of the native buffers. */
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /** The default number of bytes a batch aims for. */
+    private static final long DEFAULT_BATCH_BYTES = 1 << 20;
+
+    /** The largest number of bytes a single code point needs in UTF-8. */
+    private static final int MAX_BYTES_PER_CODE_POINT = 4;
+
+    /** The byte written in place of an unpaired surrogate. */
+    private static final byte REPLACEMENT = '?';
+
+    /** The size of the native buffers that batches are encoded into. */
+    private final int bufferSize;
+
+    /** The number of bytes a batch aims for. */
+    private final long batchBytes;
+
+    /**
+     * Constructs a renderer with default buffer and batch sizes.
+     */
+    public TextRenderer() {
+        this(DEFAULT_BUFFER_SIZE, DEFAULT_BATCH_BYTES);
+    }
+
+    /**
+     * Constructs a renderer with the given buffer and batch sizes.
+     * Small sizes are useful in tests to exercise buffer flushes and batch boundaries.
+     *
+     * @param bufferSize The size of the native buffers, in bytes.
+     * @param batchBytes The number of bytes a batch aims for.
+     */
+    TextRenderer(int bufferSize, long batchBytes) {
+        if (bufferSize < MAX_BYTES_PER_CODE_POINT) {
+            throw new IllegalArgumentException("Buffer size must be at least " + MAX_BYTES_PER_CODE_POINT + " bytes.");
+        }
+        if (batchBytes <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        this.bufferSize = bufferSize;
+        this.batchBytes = batchBytes;
+    }
+
+    /**
+     * Renders a text into a file as UTF-8. The file is created if needed and truncated otherwise.
+     *
+     * @param text The text to render. Must not be null.
+     * @param path The file to write. Must not be null.
+     * @throws IllegalArgumentException if text or path is null.
+     * @throws IOException if the file cannot be opened or written.
+     */
+    public void render(Text text, Path path) throws IOException {
+        if (text == null) {
+            throw new IllegalArgumentException("Input text cannot be null.");
+        }
+        if (path == null) {
+            throw new IllegalArgumentException("Output path cannot be null.");
+        }
+
+        List<Sentence> sentences = text.getSentences();
+        long[] offsets = computeOffsets(sentences);
+        int[] batchStarts = splitIntoBatches(offsets);
+
+        try (Arena arena = Arena.ofShared();
+             FileChannel channel = FileChannel.open(path,
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+            IntStream.range(0, batchStarts.length - 1).parallel().forEach(batch -> {
+                int from = batchStarts[batch];
+                int to = batchStarts[batch + 1];
+                ByteBuffer buffer = pool.poll();
+                if (buffer == null) {
+                    buffer = arena.allocate(bufferSize).asByteBuffer();
+                }
+                try {
+                    writeBatch(channel, buffer, sentences.subList(from, to), offsets[from]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    pool.offer(buffer);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Computes the file offset of every sentence: the encoded lengths are computed in parallel
+     * and then prefix-summed.
+     *
+     * @param sentences The sentences to render.
+     * @return An array whose element {@code i} is the offset of sentence {@code i}, and whose last
+     *         element is the total size of the output.
+     */
+    private long[] computeOffsets(List<Sentence> sentences) {
+        long[] offsets = new long[sentences.size() + 1];
+        IntStream.range(0, sentences.size()).parallel()
+                .forEach(i -> offsets[i + 1] = encode(sentences.get(i), null));
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        return offsets;
+    }
+
+    /**
+     * Groups consecutive sentences into batches of roughly {@link #batchBytes} bytes each.
+     *
+     * @param offsets The sentence offsets, as computed by {@link #computeOffsets(List)}.
+     * @return The index of the first sentence of every batch, followed by the sentence count.
+     */
+    private int[] splitIntoBatches(long[] offsets) {
+        List<Integer> starts = new ArrayList<>();
+        int sentenceCount = offsets.length - 1;
+        long batchStartOffset = -batchBytes; // Forces a batch to start at the first sentence
+        for (int i = 0; i < sentenceCount; i++) {
+            if (offsets[i] - batchStartOffset >= batchBytes) {
+                starts.add(i);
+                batchStartOffset = offsets[i];
+            }
+        }
+        starts.add(sentenceCount);
+        return starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Encodes a batch of sentences into a buffer and writes it at the given file position,
+     * flushing whenever the buffer fills up.
+     *
+     * @param channel The channel to write to.
+     * @param buffer The buffer to encode into, used by no other thread meanwhile.
+     * @param sentences The sentences of the batch.
+     * @param position The file offset of the first sentence of the batch.
+     * @throws IOException if writing fails.
+     */
+    private void writeBatch(FileChannel channel, ByteBuffer buffer, List<Sentence> sentences, long position)
+            throws IOException {
+        BatchWriter writer = new BatchWriter(channel, buffer, position);
+        for (Sentence sentence : sentences) {
+            encode(sentence, writer);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Encodes a sentence as UTF-8, or only measures it.
+     *
+     * @param sentence The sentence to encode.
+     * @param writer The writer that receives the bytes, or {@code null} to only count them.
+     * @return The number of bytes of the encoded sentence.
+     * @throws UncheckedIOException if the writer fails to flush.
+     */
+    private static long encode(Sentence sentence, BatchWriter writer) {
+        long bytes = 0;
+        char pendingHigh = 0; // A high surrogate waiting for its low surrogate
+        for (SentenceElement element : sentence.getElements()) {
+            int length = switch (element) {
+                case Word word -> word.getLength();
+                case Punctuation punctuation -> 1;
+            };
+            for (int i = 0; i < length; i++) {
+                char c = charOf(element, i);
+                if (pendingHigh != 0) {
+                    if (Character.isLowSurrogate(c)) {
+                        bytes += encodeCodePoint(Character.toCodePoint(pendingHigh, c), writer);
+                        pendingHigh = 0;
+                        continue;
+                    }
+                    bytes += put(REPLACEMENT, writer);
+                    pendingHigh = 0;
+                }
+
+                if (Character.isHighSurrogate(c)) {
+                    pendingHigh = c;
+                } else if (Character.isLowSurrogate(c)) {
+                    bytes += put(REPLACEMENT, writer);
+                } else {
+                    bytes += encodeCodePoint(c, writer);
+                }
+            }
+        }
+        if (pendingHigh != 0) {
+            bytes += put(REPLACEMENT, writer);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns a character of a sentence element.
+     *
+     * @param element The element.
+     * @param index The position of the character within the element.
+     * @return The character.
+     */
+    private static char charOf(SentenceElement element, int index) {
+        return switch (element) {
+            case Word word -> word.charAt(index);
+            case Punctuation punctuation -> punctuation.getSymbol();
+        };
+    }
+
+    /**
+     * Encodes a single code point as UTF-8.
+     *
+     * @param codePoint The code point, which is not a surrogate.
+     * @param writer The writer that receives the bytes, or {@code null} to only count them.
+     * @return The number of bytes of the encoded code point.
+     */
+    private static int encodeCodePoint(int codePoint, BatchWriter writer) {
+        if (codePoint < 0x80) {
+            return put((byte) codePoint, writer);
+        }
+        if (codePoint < 0x800) {
+            return put((byte) (0xC0 | (codePoint >> 6)), writer)
+                    + put((byte) (0x80 | (codePoint & 0x3F)), writer);
+        }
+        if (codePoint < 0x10000) {
+            return put((byte) (0xE0 | (codePoint >> 12)), writer)
+                    + put((byte) (0x80 | ((codePoint >> 6) & 0x3F)), writer)
+                    + put((byte) (0x80 | (codePoint & 0x3F)), writer);
+        }
+        return put((byte) (0xF0 | (codePoint >> 18)), writer)
+                + put((byte) (0x80 | ((codePoint >> 12) & 0x3F)), writer)
+                + put((byte) (0x80 | ((codePoint >> 6) & 0x3F)), writer)
+                + put((byte) (0x80 | (codePoint & 0x3F)), writer);
+    }
+
+    /**
+     * Passes one byte to the writer, if there is one.
+     *
+     * @param value The byte.
+     * @param writer The writer that receives the byte, or {@code null} to only count it.
+     * @return Always 1.
+     */
+    private static int put(byte value, BatchWriter writer) {
+        if (writer != null) {
+            writer.put(value);
+        }
+        return 1;
+    }
+
+    /**
+     * Collects the bytes of one batch in a native buffer and writes them at consecutive file positions.
+     */
+    private static final class BatchWriter {
+
+        /** The channel to write to. */
+        private final FileChannel channel;
+
+        /** The buffer the bytes are collected in. */
+        private final ByteBuffer buffer;
+
+        /** The file position at which the buffered bytes belong. */
+        private long position;
+
+        /**
+         * Creates a writer that starts writing at the given position.
+         *
+         * @param channel The channel to write to.
+         * @param buffer The buffer to collect bytes in; it is cleared first.
+         * @param position The file offset of the first byte.
+         */
+        private BatchWriter(FileChannel channel, ByteBuffer buffer, long position) {
+            this.channel = channel;
+            this.buffer = buffer.clear();
+            this.position = position;
+        }
+
+        /**
+         * Adds a byte, flushing the buffer first if it is full.
+         *
+         * @param value The byte.
+         * @throws UncheckedIOException if flushing fails.
+         */
+        private void put(byte value) {
+            if (!buffer.hasRemaining()) {
+                try {
+                    flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            buffer.put(value);
+        }
+
+        /**
+         * Writes all buffered bytes at the current position and clears the buffer.
+         *
+         * @throws IOException if writing fails.
+         */
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -7,6 +7,9 @@ import java.util.ArrayList;
  * Represents a word, which is composed of a sequence of Letter objects.
  * This class implements the {@link SentenceElement} interface.
  *
+ * <p>Words are compared by value: two words are equal if they have the same characters.
+ * The hash code is computed on first use and cached.
+ *
  * <p>This class is immutable.
  */
 public final class Word implements SentenceElement {
@@ -14,6 +17,9 @@ public final class Word implements SentenceElement {
     /** A list of Letter objects that form the word. */
     private final List<Letter> letters;
 
+    /** The cached hash code, or 0 if it has not been computed yet. */
+    private int hash;
+
     /**
      * A convenience constructor to create a Word from a String. Each character of the string will be
      * converted into a Letter object.
@@ -24,18 +30,45 @@ public final class Word implements SentenceElement {
         if (wordString == null) {
             throw new IllegalArgumentException("Word string cannot be null.");
         }
+        this.letters = lettersOf(wordString);
+    }
 
-        // Create a temporary list to fill in
-        List<Letter> lettersList = new ArrayList<>();
+    /**
+     * Creates a Word over an already built list of letters.
+     *
+     * @param letters The letters of the word, which must not be modified afterwards.
+     */
+    private Word(List<Letter> letters) {
+        this.letters = letters;
+    }
 
-        // Go through each character in the string
-        for (char character : wordString.toCharArray()) {
-            // Add a new Letter object to the list
-            lettersList.add(new Letter(character));
-        }
+    /**
+     * Creates a Word from any character sequence, such as a parser's word buffer,
+     * without first copying it into a {@code String}.
+     *
+     * @param characters The characters of the word.
+     * @return A new Word with the given characters.
+     */
+    static Word of(CharSequence characters) {
+        return new Word(lettersOf(characters));
+    }
 
-        // Assign an immutable list
-        this.letters = lettersList;
+    /**
+     * Converts characters into Letter objects.
+     *
+     * @param characters The characters to convert.
+     * @return A list of the letters, sized exactly for the word.
+     */
+    private static List<Letter> lettersOf(CharSequence characters) {
+        // Create a temporary list to fill in, sized exactly for the word
+        List<Letter> lettersList = new ArrayList<>(characters.length());
+
+        // Go through each character in the sequence
+        for (int i = 0; i < characters.length(); i++) {
+            // Add a (possibly shared) Letter object to the list
+            lettersList.add(Letter.valueOf(characters.charAt(i)));
+        }
+        return lettersList;
     }
 
     /**
@@ -47,6 +80,17 @@ public final class Word implements SentenceElement {
         return java.util.Collections.unmodifiableList(letters);
     }
 
+    /**
+     * Returns the character of the letter at the given position, without exposing the letter list.
+     *
+     * @param index The position of the letter.
+     * @return The character at that position.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    char charAt(int index) {
+        return letters.get(index).getCharacter();
+    }
+
     /**
      * Returns the number of letters in the word.
      *
@@ -56,6 +100,48 @@ public final class Word implements SentenceElement {
         return letters.size();
     }
 
+    /**
+     * Compares this word to another object. Two words are equal if they have the same characters
+     * in the same order. Identical instances, such as interned words, are recognized immediately,
+     * and words with different cached hash codes are rejected without comparing characters.
+     *
+     * @param other The object to compare with.
+     * @return {@code true} if {@code other} is a Word with the same characters.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Word word) || word.getLength() != getLength() || word.hashCode() != hashCode()) {
+            return false;
+        }
+        for (int i = 0; i < letters.size(); i++) {
+            if (word.charAt(i) != charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this word, equal to the hash code of {@link #toString()}.
+     * The value is computed on first use and cached.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            for (Letter letter : letters) {
+                h = 31 * h + letter.getCharacter();
+            }
+            hash = h; // Racy but safe: every thread computes the same value
+        }
+        return h;
+    }
+
     /**
      * Returns the string representation of the word.
      * This is constructed by concatenating the characters of all its {@link Letter} objects.
@@ -64,11 +150,19 @@ public final class Word implements SentenceElement {
      */
     @Override
     public String toString() {
-        StringBuilder builder = new StringBuilder();
+        StringBuilder builder = new StringBuilder(letters.size());
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the characters of this word to a builder without creating intermediate strings.
+     *
+     * @param builder The builder to append to.
+     */
+    void appendTo(StringBuilder builder) {
         for (Letter letter : this.letters) {
-            builder.append(letter);
+            builder.append(letter.getCharacter());
         }
-
-        return builder.toString();
     }
 }
@@ -0,0 +1,228 @@
+package org.example;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A dictionary that maps words to replacement words, for replacing or redacting large sets of
+ * terms such as names or banned words in a single pass over a {@link Text}.
+ *
+ * <p>The entries are stored in a compact trie made of parallel arrays: the children of every node
+ * are contiguous and sorted by character, so a lookup walks the {@link Word} letter by letter with
+ * a binary search per step. A lookup therefore takes time proportional to the word length and
+ * never allocates a {@code String}. Optionally, characters are compared case-insensitively, using
+ * the same per-character folding as {@link String#equalsIgnoreCase(String)}.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class WordDictionary {
+
+    /** The edge label leading into every node; unused for the root. */
+    private final char[] labels;
+
+    /** The index of the first child of every node. */
+    private final int[] firstChild;
+
+    /** The number of children of every node. */
+    private final int[] childCount;
+
+    /** The replacement for the word ending at every node, or {@code null} if no word ends there. */
+    private final Word[] replacements;
+
+    /** The number of entries in the dictionary. */
+    private final int size;
+
+    /** Whether characters are compared case-insensitively. */
+    private final boolean caseInsensitive;
+
+    /**
+     * Constructs a dictionary from a map of words to their replacements.
+     *
+     * @param entries The words to look up, each mapped to its replacement Word. Must not be null,
+     *                and must not contain null or empty keys or null values.
+     * @param caseInsensitive Whether lookups should ignore the case of characters.
+     * @throws IllegalArgumentException if {@code entries} is invalid, or if two keys are equal
+     *         when compared case-insensitively in a case-insensitive dictionary.
+     */
+    public WordDictionary(Map<String, Word> entries, boolean caseInsensitive) {
+        if (entries == null) {
+            throw new IllegalArgumentException("Dictionary entries cannot be null.");
+        }
+        this.caseInsensitive = caseInsensitive;
+
+        String[] keys = new String[entries.size()];
+        Word[] values = new Word[entries.size()];
+        List<Map.Entry<String, Word>> sorted = sortedEntries(entries);
+        int totalChars = 0;
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = sorted.get(i).getKey();
+            values[i] = sorted.get(i).getValue();
+            totalChars += keys[i].length();
+            if (i > 0 && keys[i].equals(keys[i - 1])) {
+                throw new IllegalArgumentException("Dictionary contains duplicate entries for: " + keys[i]);
+            }
+        }
+
+        // A trie never has more nodes than the root plus one per key character
+        int capacity = totalChars + 1;
+        char[] nodeLabels = new char[capacity];
+        int[] nodeFirstChild = new int[capacity];
+        int[] nodeChildCount = new int[capacity];
+        Word[] nodeReplacements = new Word[capacity];
+        int nodeCount = 1;
+
+        // Breadth-first construction keeps the children of every node contiguous.
+        // Each queue item is {node, first key, end key, depth}; the keys of a node share a prefix.
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[] {0, 0, keys.length, 0});
+        while (!queue.isEmpty()) {
+            int[] item = queue.poll();
+            int node = item[0];
+            int from = item[1];
+            int to = item[2];
+            int depth = item[3];
+
+            if (from < to && keys[from].length() == depth) {
+                nodeReplacements[node] = values[from]; // Sorted order puts the exact match first
+                from++;
+            }
+
+            nodeFirstChild[node] = nodeCount;
+            while (from < to) {
+                char label = keys[from].charAt(depth);
+                int end = from + 1;
+                while (end < to && keys[end].charAt(depth) == label) {
+                    end++;
+                }
+                nodeLabels[nodeCount] = label;
+                queue.add(new int[] {nodeCount, from, end, depth + 1});
+                nodeCount++;
+                nodeChildCount[node]++;
+                from = end;
+            }
+        }
+
+        this.labels = Arrays.copyOf(nodeLabels, nodeCount);
+        this.firstChild = Arrays.copyOf(nodeFirstChild, nodeCount);
+        this.childCount = Arrays.copyOf(nodeChildCount, nodeCount);
+        this.replacements = Arrays.copyOf(nodeReplacements, nodeCount);
+        this.size = keys.length;
+    }
+
+    /**
+     * Looks up the replacement for a word.
+     *
+     * @param word The word to look up. Must not be null.
+     * @return The replacement {@link Word}, or {@code null} if the word is not in the dictionary.
+     * @throws IllegalArgumentException if {@code word} is null.
+     */
+    public Word lookup(Word word) {
+        if (word == null) {
+            throw new IllegalArgumentException("Word cannot be null.");
+        }
+
+        int node = 0;
+        for (int i = 0; i < word.getLength(); i++) {
+            node = findChild(node, fold(word.charAt(i)));
+            if (node < 0) {
+                return null;
+            }
+        }
+        return replacements[node];
+    }
+
+    /**
+     * Returns the number of entries in the dictionary.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether lookups ignore the case of characters.
+     *
+     * @return {@code true} for a case-insensitive dictionary.
+     */
+    public boolean isCaseInsensitive() {
+        return caseInsensitive;
+    }
+
+    /**
+     * Finds the child of a node that is reached through the given character.
+     *
+     * @param node The parent node.
+     * @param character The edge label to follow.
+     * @return The index of the child node, or {@code -1} if there is none.
+     */
+    private int findChild(int node, char character) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char label = labels[middle];
+            if (label < character) {
+                low = middle + 1;
+            } else if (label > character) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Normalizes a character for comparison according to the case sensitivity of the dictionary.
+     *
+     * @param character The character to normalize.
+     * @return The character itself, or its case-folded form in a case-insensitive dictionary.
+     */
+    private char fold(char character) {
+        return caseInsensitive ? Character.toLowerCase(Character.toUpperCase(character)) : character;
+    }
+
+    /**
+     * Validates the entries, folds their keys and sorts them by key.
+     *
+     * @param entries The entries to sort.
+     * @return The validated entries with folded keys, sorted by key.
+     * @throws IllegalArgumentException if an entry has a null or empty key or a null value.
+     */
+    private List<Map.Entry<String, Word>> sortedEntries(Map<String, Word> entries) {
+        List<Map.Entry<String, Word>> result = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Word> entry : entries.entrySet()) {
+            String key = entry.getKey();
+            if (key == null || key.isEmpty()) {
+                throw new IllegalArgumentException("Dictionary words cannot be null or empty.");
+            }
+            if (entry.getValue() == null) {
+                throw new IllegalArgumentException("Replacement word cannot be null.");
+            }
+            result.add(Map.entry(foldAll(key), entry.getValue()));
+        }
+        result.sort(Map.Entry.comparingByKey());
+        return result;
+    }
+
+    /**
+     * Normalizes every character of a key according to the case sensitivity of the dictionary.
+     *
+     * @param key The key to normalize.
+     * @return The normalized key.
+     */
+    private String foldAll(String key) {
+        if (!caseInsensitive) {
+            return key;
+        }
+        char[] folded = new char[key.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(key.charAt(i));
+        }
+        return new String(folded);
+    }
+}
@@ -0,0 +1,158 @@
+package org.example;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent, size-bounded table of canonical {@link Word} instances.
+ * Natural-language text repeats a small set of words very often, so sharing one immutable
+ * {@code Word} per distinct spelling saves most of the memory spent on words.
+ *
+ * <p>The table is a fixed array of slots addressed by a hash of the word's characters. A lookup
+ * that finds an equal word in its slot returns it without allocating anything; otherwise a new
+ * word is created and replaces whatever occupied the slot. Because the table never grows, its
+ * memory is bounded by its capacity whatever the input: unusual or adversarial input can only
+ * lower the hit rate. The hash is a polynomial whose multiplier is chosen at random per table, so
+ * words that collide under a fixed multiplier, such as {@code "Aa"} and {@code "BB"} under
+ * {@link String#hashCode()}, do not collide predictably. Words longer than
+ * {@link #MAX_INTERNED_LENGTH} are rarely repeated and are never interned.
+ *
+ * <p>This class is thread-safe. Concurrent lookups may occasionally create two instances of the
+ * same word, which is harmless because words are immutable.
+ */
+public final class WordTable {
+
+    /** The longest word, in characters, that is stored in the table. */
+    public static final int MAX_INTERNED_LENGTH = 32;
+
+    /** The slots holding the canonical words. */
+    private final AtomicReferenceArray<Word> slots;
+
+    /** The number of bits to shift a mixed hash right to obtain a slot index. */
+    private final int shift;
+
+    /** A random per-table seed that starts every hash. */
+    private final int seed;
+
+    /** A random odd per-table multiplier applied to the hash before each character. */
+    private final int multiplier;
+
+    /** The number of lookups that returned an existing word. */
+    private final LongAdder hits = new LongAdder();
+
+    /** The number of lookups that had to create a new word. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a table with room for at least the given number of words.
+     * The capacity is rounded up to a power of two.
+     *
+     * @param capacity The minimum number of slots. Must be positive.
+     * @throws IllegalArgumentException if {@code capacity} is not positive or is too large.
+     */
+    public WordTable(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(size);
+        this.seed = ThreadLocalRandom.current().nextInt();
+        this.multiplier = ThreadLocalRandom.current().nextInt() | 1;
+    }
+
+    /**
+     * Returns the canonical word for the given characters, creating it if necessary.
+     *
+     * @param characters The characters of the word. Must not be null.
+     * @return A {@link Word} with the given characters; the same instance for repeated lookups
+     *         as long as it has not been evicted.
+     * @throws IllegalArgumentException if {@code characters} is null.
+     */
+    public Word intern(CharSequence characters) {
+        if (characters == null) {
+            throw new IllegalArgumentException("Word characters cannot be null.");
+        }
+        if (characters.length() > MAX_INTERNED_LENGTH) {
+            misses.increment();
+            return Word.of(characters);
+        }
+
+        int index = indexFor(characters);
+        Word existing = slots.get(index);
+        if (existing != null && hasCharacters(existing, characters)) {
+            hits.increment();
+            return existing;
+        }
+
+        Word created = Word.of(characters);
+        slots.set(index, created);
+        misses.increment();
+        return created;
+    }
+
+    /**
+     * Returns the number of slots in the table, which bounds the number of words it retains.
+     *
+     * @return The capacity of the table.
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * Returns the number of lookups that returned an existing word.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that created a new word.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Computes the slot index of a sequence of characters.
+     *
+     * @param characters The characters to hash.
+     * @return The slot index.
+     */
+    private int indexFor(CharSequence characters) {
+        int hash = seed;
+        for (int i = 0; i < characters.length(); i++) {
+            hash = multiplier * hash + characters.charAt(i);
+        }
+        hash *= 0x9E3779B9; // Fibonacci hashing spreads the bits into the top of the word
+        return (shift == Integer.SIZE) ? 0 : hash >>> shift;
+    }
+
+    /**
+     * Checks whether a word consists of exactly the given characters.
+     *
+     * @param word The word to compare.
+     * @param characters The characters to compare against.
+     * @return {@code true} if they match.
+     */
+    private static boolean hasCharacters(Word word, CharSequence characters) {
+        if (word.getLength() != characters.length()) {
+            return false;
+        }
+        for (int i = 0; i < characters.length(); i++) {
+            if (word.charAt(i) != characters.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,201 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+/**
+ * Allocation-budget regression tests.
+ * Each test measures the bytes allocated by all threads per input character for one operation
+ * and one input shape, and fails if the declared budget is exceeded. The budgets leave 20-50%
+ * headroom over the measured cost, or a few bytes for operations that allocate almost nothing.
+ * That absorbs JIT and JVM noise but stays below the cost of the per-character regressions the
+ * suite guards against, such as a new {@link Letter} per character in parsing or a copy of every
+ * unchanged word in replacement.
+ *
+ * <p>Allocation sizes depend on the object layout and on what the optimizing compiler eliminates,
+ * so the budgets are calibrated for the default 64-bit HotSpot configuration: compressed oops and
+ * compressed class pointers, with C2 available. The tests are skipped on other configurations
+ * (for example heaps above 32 GB or {@code -XX:TieredStopAtLevel=1}) and on JVMs that cannot report
+ * per-thread allocation.
+ */
+@DisplayName("Allocation budget tests")
+class AllocationBudgetTest {
+
+    /** Number of characters each generated input is built up to. */
+    private static final int INPUT_SIZE = 20_000;
+
+    /** Number of untimed runs that let the JIT compile and optimize the operation first. */
+    private static final int WARMUP_RUNS = 100;
+
+    /** Number of measured runs; the lowest result is used to filter out background noise. */
+    private static final int MEASURED_RUNS = 5;
+
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    /**
+     * The input shapes, each with its own allocation budgets in bytes per input character.
+     */
+    private enum Shape {
+        /** Ordinary prose with short words and regular sentence terminators. */
+        PROSE("The quick brown fox jumps over the lazy dog. Is it not a fine day? ",
+                43, 6, 8, 12),
+        /** Long words with few delimiters. */
+        LONG_WORDS("Internationalization incomprehensibilities counterrevolutionaries. ",
+                24, 2, 8, 8),
+        /** Mostly punctuation and single-letter words. */
+        PUNCTUATION_HEAVY("a, b; c: (d) - e! ",
+                62, 2, 8, 16),
+        /** One huge sentence without any terminator, as in CSV-like dumps. */
+        NO_TERMINATOR("alpha,beta,gamma,delta;42,17,99 ",
+                39, 5, 8, 8);
+
+        private final String unit;
+        private final double parseBudget;
+        private final double replaceBudget;
+        private final double textToStringBudget;
+        private final double sentenceToStringBudget;
+
+        Shape(String unit, double parseBudget, double replaceBudget,
+              double textToStringBudget, double sentenceToStringBudget) {
+            this.unit = unit;
+            this.parseBudget = parseBudget;
+            this.replaceBudget = replaceBudget;
+            this.textToStringBudget = textToStringBudget;
+            this.sentenceToStringBudget = sentenceToStringBudget;
+        }
+
+        String input() {
+            return unit.repeat(Math.max(1, INPUT_SIZE / unit.length()));
+        }
+    }
+
+    @BeforeAll
+    static void setUpBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Per-thread allocation is not available");
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Per-thread allocation is not supported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        assumeTrue(hotSpot != null, "VM options cannot be inspected");
+        assumeFalse("false".equals(vmOption(hotSpot, "UseCompressedOops")), "Budgets assume compressed oops");
+        assumeFalse("false".equals(vmOption(hotSpot, "UseCompressedClassPointers")),
+                "Budgets assume compressed class pointers");
+        String stopLevel = vmOption(hotSpot, "TieredStopAtLevel");
+        assumeTrue(stopLevel == null || Integer.parseInt(stopLevel) >= 4, "Budgets assume the C2 compiler");
+        assumeFalse(System.getProperty("java.vm.info", "").contains("interpreted mode"),
+                "Budgets assume a compiling JVM");
+    }
+
+    /**
+     * Returns the value of a HotSpot VM option, or {@code null} if this JVM does not have it.
+     */
+    private static String vmOption(HotSpotDiagnosticMXBean hotSpot, String name) {
+        try {
+            return hotSpot.getVMOption(name).getValue();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Shape.class)
+    @DisplayName("TextParser.parse should stay within its allocation budget")
+    void testParseBudget(Shape shape) {
+        String input = shape.input();
+        TextParser parser = new TextParser();
+
+        assertWithinBudget("parse", shape, shape.parseBudget, input.length(), input, parser::parse);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Shape.class)
+    @DisplayName("TextProcessor.replaceWordsOfLength should stay within its allocation budget")
+    void testReplaceBudget(Shape shape) {
+        String input = shape.input();
+        Text text = new TextParser().parse(input);
+        TextProcessor processor = new TextProcessor();
+        Word replacement = new Word("XXXXX");
+
+        assertWithinBudget("replaceWordsOfLength", shape, shape.replaceBudget, input.length(), text,
+                t -> processor.replaceWordsOfLength(t, 5, replacement));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Shape.class)
+    @DisplayName("Text.toString should stay within its allocation budget")
+    void testTextToStringBudget(Shape shape) {
+        String input = shape.input();
+        Text text = new TextParser().parse(input);
+
+        assertWithinBudget("Text.toString", shape, shape.textToStringBudget, input.length(), text,
+                Text::toString);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Shape.class)
+    @DisplayName("Sentence.toString should stay within its allocation budget")
+    void testSentenceToStringBudget(Shape shape) {
+        String input = shape.input();
+        Text text = new TextParser().parse(input);
+
+        assertWithinBudget("Sentence.toString", shape, shape.sentenceToStringBudget, input.length(), text,
+                t -> {
+                    int total = 0;
+                    for (Sentence sentence : t.getSentences()) {
+                        total += sentence.toString().length();
+                    }
+                    return total;
+                });
+    }
+
+    /**
+     * Runs an operation until it is compiled, measures its allocation per input character,
+     * and asserts that the result does not exceed the budget.
+     */
+    private static <T> void assertWithinBudget(String operation, Shape shape, double budget, int chars,
+                                               T input, Function<T, ?> action) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            sink = action.apply(input);
+        }
+
+        long lowest = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long[] threadIds = threadBean.getAllThreadIds();
+            long before = allocatedBytes(threadIds);
+            sink = action.apply(input);
+            long after = allocatedBytes(threadIds);
+            lowest = Math.min(lowest, after - before);
+        }
+        assertNotNull(sink);
+
+        double perChar = (double) lowest / chars;
+        assertTrue(perChar <= budget, String.format(
+                "%s on %s allocated %.1f bytes per character, budget is %.1f", operation, shape, perChar, budget));
+    }
+
+    /**
+     * Sums the bytes allocated so far by the given threads, so that work an operation hands to
+     * other threads (such as the chunks of a huge sentence processed in parallel) is counted too.
+     * Threads that have died are skipped.
+     */
+    private static long allocatedBytes(long[] threadIds) {
+        long total = 0;
+        for (long allocated : threadBean.getThreadAllocatedBytes(threadIds)) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+}
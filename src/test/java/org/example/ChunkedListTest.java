@@ -0,0 +1,128 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Unit tests for the ChunkedList class and the chunked storage of Sentence and Text.
+ */
+@DisplayName("Tests for ChunkedList")
+class ChunkedListTest {
+
+    private static List<Integer> numbers(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Should keep every element and its position across chunk boundaries")
+    void testCopyOfAndGet() {
+        List<Integer> source = numbers(3 * ChunkedList.CHUNK_SIZE + 5);
+        ChunkedList<Integer> list = ChunkedList.copyOf(source);
+
+        assertEquals(source, list);
+        assertEquals(source.size(), list.size());
+        assertEquals(ChunkedList.CHUNK_SIZE, list.get(ChunkedList.CHUNK_SIZE));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(source.size()));
+        assertSame(list, ChunkedList.copyOf(list), "A chunked list is immutable and need not be copied");
+    }
+
+    @Test
+    @DisplayName("Should be unmodifiable")
+    void testUnmodifiable() {
+        ChunkedList<Integer> list = ChunkedList.copyOf(numbers(10));
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 1));
+    }
+
+    @Test
+    @DisplayName("map() should return the same list when nothing changes")
+    void testMapWithoutChanges() {
+        ChunkedList<Integer> list = ChunkedList.copyOf(numbers(200));
+
+        assertSame(list, list.map(x -> x));
+        assertSame(list, list.mapParallel(x -> x));
+    }
+
+    @Test
+    @DisplayName("map() and mapParallel() should apply the operation to every element")
+    void testMapWithChanges() {
+        int size = 10 * ChunkedList.CHUNK_SIZE + 3;
+        ChunkedList<Integer> list = ChunkedList.copyOf(numbers(size));
+        List<Integer> expected = new ArrayList<>(numbers(size));
+        expected.set(size - 1, -1);
+
+        assertEquals(expected, list.map(x -> (x == size - 1) ? -1 : x));
+        assertEquals(expected, list.mapParallel(x -> (x == size - 1) ? -1 : x));
+        assertEquals(numbers(size), list, "The original list should not change");
+    }
+
+    @Test
+    @DisplayName("Spliterator should split only at chunk boundaries")
+    void testSpliteratorSplitsAtChunkBoundaries() {
+        ChunkedList<Integer> list = ChunkedList.copyOf(numbers(4 * ChunkedList.CHUNK_SIZE + 1));
+        Spliterator<Integer> suffix = list.spliterator();
+
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(0, prefix.estimateSize() % ChunkedList.CHUNK_SIZE);
+        assertEquals(list.size(), prefix.estimateSize() + suffix.estimateSize());
+        assertNull(ChunkedList.copyOf(numbers(10)).spliterator().trySplit(), "A single chunk should not split");
+        assertEquals(list.stream().mapToInt(Integer::intValue).sum(),
+                list.parallelStream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    @DisplayName("Should process a sentence with a very large number of elements")
+    void testHugeSentence() {
+        String input = "alpha,beta,gamma,delta;".repeat(20_000);
+        Text text = new TextParser().parse(input);
+        TextProcessor processor = new TextProcessor();
+
+        Text result = processor.replaceWordsOfLength(text, 4, new Word("BETA"));
+
+        assertEquals(1, result.getSentences().size());
+        assertEquals(input.replace("beta", "BETA"), result.toString());
+        assertEquals(input, text.toString(), "The original text should not change");
+    }
+
+    @Test
+    @DisplayName("Should copy only the chunks that lose elements when mapping removes some")
+    void testMapWithRemovals() {
+        List<Integer> source = numbers(100 * ChunkedList.CHUNK_SIZE + 7);
+        ChunkedList<Integer> list = ChunkedList.copyOf(source);
+        int removedEvery = 17 * ChunkedList.CHUNK_SIZE + 3;
+
+        ChunkedList<Integer> mapped = list.map(n -> (n % removedEvery == 0) ? null : n);
+
+        List<Integer> expected = source.stream().filter(n -> n % removedEvery != 0).collect(Collectors.toList());
+        assertEquals(expected, mapped);
+        assertEquals(expected.get(expected.size() - 1), mapped.get(mapped.size() - 1));
+        assertEquals(expected.subList(ChunkedList.CHUNK_SIZE - 1, 3 * ChunkedList.CHUNK_SIZE),
+                mapped.subList(ChunkedList.CHUNK_SIZE - 1, 3 * ChunkedList.CHUNK_SIZE));
+        assertEquals(101 - 6, list.countSharedChunks(mapped), "Only the six chunks that lost elements should be copied");
+        assertEquals(expected.stream().mapToLong(Integer::longValue).sum(),
+                mapped.parallelStream().mapToLong(Integer::longValue).sum());
+        assertTrue(list.map(n -> null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should strip punctuation from a very large sentence")
+    void testHugeSentenceStripPunctuation() {
+        String input = "alpha,beta gamma delta ".repeat(20_000);
+        Text text = new TextParser().parse(input);
+
+        Text result = new TextPipeline().then(ElementTransform.stripPunctuation()).apply(text);
+
+        assertEquals(1, result.getSentences().size());
+        assertEquals(new TextParser().parse(input.replace(",", "")).toString(), result.toString());
+        assertEquals(input.trim(), text.toString(), "The original text should not change");
+    }
+}
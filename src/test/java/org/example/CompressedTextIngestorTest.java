@@ -0,0 +1,167 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Unit tests for the CompressedTextIngestor class and the streaming mode of TextParser.
+ * Every test compares the ingested text with the result of parsing the whole string at once.
+ */
+@DisplayName("Tests for CompressedTextIngestor")
+class CompressedTextIngestorTest {
+
+    /** Text with tabs, runs of spaces, line breaks and multi-byte characters, spanning many buffers. */
+    private static final String LARGE_TEXT = ("  Привіт,\t\t світ!  Emoji 😀 here.\n\tÜnïcödé  wörds… "
+            + "Tabs\tand   spaces? Yes.\r\n").repeat(3_000) + "No terminator at the end \t ";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should match TextParser for gzip input spanning many buffers")
+    void testGzipMatchesParser() throws IOException {
+        Path file = directory.resolve("text.gz");
+        Files.write(file, compress(LARGE_TEXT, true));
+
+        IngestionResult result = new CompressedTextIngestor(CompressedTextIngestor.Compression.GZIP).ingest(file);
+
+        assertEquals(new TextParser().parse(LARGE_TEXT).toString(), result.getText().toString());
+    }
+
+    @Test
+    @DisplayName("Should match TextParser for deflate and uncompressed input")
+    void testDeflateAndNoneMatchParser() throws IOException {
+        String expected = new TextParser().parse(LARGE_TEXT).toString();
+
+        IngestionResult deflated = new CompressedTextIngestor(CompressedTextIngestor.Compression.DEFLATE)
+                .ingest(new ByteArrayInputStream(compress(LARGE_TEXT, false)));
+        IngestionResult plain = new CompressedTextIngestor(CompressedTextIngestor.Compression.NONE)
+                .ingest(new ByteArrayInputStream(LARGE_TEXT.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(expected, deflated.getText().toString());
+        assertEquals(expected, plain.getText().toString());
+    }
+
+    @Test
+    @DisplayName("Should apply the pipeline to every sentence")
+    void testPipelineIsApplied() throws IOException {
+        String input = "The Cat sat. A DOG ran!";
+        TextPipeline pipeline = new TextPipeline().then(ElementTransform.foldCase());
+
+        IngestionResult result = new CompressedTextIngestor(CompressedTextIngestor.Compression.GZIP,
+                StandardCharsets.UTF_8, pipeline).ingest(new ByteArrayInputStream(compress(input, true)));
+
+        assertEquals(pipeline.apply(new TextParser().parse(input)).toString(), result.getText().toString());
+    }
+
+    @Test
+    @DisplayName("Should report the utilization of all four stages")
+    void testStageUtilization() throws IOException {
+        IngestionResult result = new CompressedTextIngestor(CompressedTextIngestor.Compression.GZIP)
+                .ingest(new ByteArrayInputStream(compress(LARGE_TEXT, true)));
+
+        Map<String, Double> utilization = result.getStageUtilization();
+        assertEquals(List.of("decompress", "decode", "parse", "process"), new ArrayList<>(utilization.keySet()));
+        for (double value : utilization.values()) {
+            assertTrue(value >= 0 && value <= 1, "Utilization should be a fraction: " + value);
+        }
+        assertTrue(utilization.containsKey(result.getBottleneckStage()));
+        assertThrows(UnsupportedOperationException.class, () -> utilization.put("other", 0.0));
+    }
+
+    @Test
+    @DisplayName("Should parse the same sentences when fed one character at a time")
+    void testStreamingParserMatchesParse() {
+        String input = " \t Hello,  world.\tSecond\n\none!   Third? \t";
+        TextParser parser = new TextParser();
+        List<Sentence> sentences = new ArrayList<>();
+
+        parser.startStreaming();
+        for (char c : input.toCharArray()) {
+            parser.feed(new char[] {c}, 0, 1, sentences::add);
+        }
+        parser.finishStreaming(sentences::add);
+
+        assertEquals(new TextParser().parse(input).toString(), new Text(sentences).toString());
+    }
+
+    @Test
+    @DisplayName("Should not close the caller's stream")
+    void testStreamIsNotClosed() throws IOException {
+        boolean[] closed = {false};
+        InputStream input = new ByteArrayInputStream(compress("Open stream.", true)) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        new CompressedTextIngestor(CompressedTextIngestor.Compression.GZIP).ingest(input);
+
+        assertFalse(closed[0]);
+    }
+
+    @Test
+    @DisplayName("Should throw IOException for corrupt compressed input")
+    void testCorruptInput_ThrowsIOException() throws IOException {
+        byte[] compressed = compress(LARGE_TEXT, true);
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        assertThrows(IOException.class, () -> new CompressedTextIngestor(CompressedTextIngestor.Compression.GZIP)
+                .ingest(new ByteArrayInputStream(truncated)));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for blank input")
+    void testBlankInput_ThrowsException() throws IOException {
+        byte[] blank = compress(" \t\n ", true);
+
+        assertThrows(IllegalArgumentException.class, () -> new CompressedTextIngestor(
+                CompressedTextIngestor.Compression.GZIP).ingest(new ByteArrayInputStream(blank)));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for invalid inputs")
+    void testInvalidInputs_ThrowException() {
+        CompressedTextIngestor ingestor = new CompressedTextIngestor(CompressedTextIngestor.Compression.NONE);
+
+        assertThrows(IllegalArgumentException.class, () -> new CompressedTextIngestor(null));
+        assertThrows(IllegalArgumentException.class, () -> new CompressedTextIngestor(
+                CompressedTextIngestor.Compression.NONE, null, new TextPipeline()));
+        assertThrows(IllegalArgumentException.class, () -> new CompressedTextIngestor(
+                CompressedTextIngestor.Compression.NONE, StandardCharsets.UTF_8, null));
+        assertThrows(IllegalArgumentException.class, () -> ingestor.ingest((Path) null));
+        assertThrows(IllegalArgumentException.class, () -> ingestor.ingest((InputStream) null));
+    }
+
+    /**
+     * Compresses a string encoded as UTF-8.
+     *
+     * @param text The text to compress.
+     * @param gzip Whether to use the gzip format rather than the zlib format.
+     * @return The compressed bytes.
+     */
+    private static byte[] compress(String text, boolean gzip) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream output = gzip ? new GZIPOutputStream(bytes) : new DeflaterOutputStream(bytes)) {
+            output.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
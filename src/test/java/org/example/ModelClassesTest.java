@@ -3,6 +3,7 @@ package org.example;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -69,6 +70,16 @@ class ModelClassesTest {
         assertThrows(IllegalArgumentException.class, () -> new Sentence(null));
     }
 
+    @Test
+    @DisplayName("Sentence and Text constructors should throw IllegalArgumentException for null elements")
+    void testConstructors_NullElements_ThrowException() {
+        List<SentenceElement> elements = Arrays.asList(new Word("a"), null, new Punctuation('.'));
+        List<Sentence> sentences = Arrays.asList(new Sentence(List.of(new Word("a"))), null);
+
+        assertThrows(IllegalArgumentException.class, () -> new Sentence(elements));
+        assertThrows(IllegalArgumentException.class, () -> new Text(sentences));
+    }
+
     @Test
     @DisplayName("Text toString() should correctly assemble multiple sentences")
     void testTextToString() {
@@ -98,4 +109,35 @@ class ModelClassesTest {
         Text textWithEmptySentence = new Text(List.of(emptySentence));
         assertEquals("", textWithEmptySentence.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("valueOf() should share Latin-1 instances and create others on demand")
+    void testValueOfFactories() {
+        assertSame(Letter.valueOf('a'), Letter.valueOf('a'));
+        assertEquals('a', Letter.valueOf('a').getCharacter());
+        assertEquals('ж', Letter.valueOf('ж').getCharacter());
+
+        assertSame(Punctuation.valueOf('.'), Punctuation.valueOf('.'));
+        assertEquals("—", Punctuation.valueOf('—').toString());
+    }
+
+    @Test
+    @DisplayName("equals() and hashCode() should compare words and sentences by value")
+    void testValueEquality() {
+        assertEquals(new Word("river"), new Word("river"));
+        assertEquals("river".hashCode(), new Word("river").hashCode());
+        assertNotEquals(new Word("river"), new Word("rivet"));
+        assertNotEquals(new Word("river"), new Word("rive"));
+        assertEquals(new Letter('ж'), Letter.valueOf('ж'));
+        assertEquals(new Punctuation('—'), Punctuation.valueOf('—'));
+        assertNotEquals(new Punctuation('a'), new Letter('a'));
+
+        Sentence first = new TextParser().parse("Hello, world.").getSentences().get(0);
+        Sentence second = new Sentence(List.of(new Word("Hello"), new Punctuation(','), new Punctuation(' '),
+                new Word("world"), new Punctuation('.')));
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(first, new TextParser().parse("Hello, world!").getSentences().get(0));
+        assertNotEquals(new Sentence(List.of(new Word("a"))), new Sentence(List.of(new Punctuation('a'))));
+    }
+}
@@ -0,0 +1,125 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.lang.foreign.Arena;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Unit tests for the OffHeapText class.
+ * These tests verify that a text copied into native memory reads back unchanged,
+ * that word replacement works on the native data, and that memory lifetime is enforced.
+ */
+@DisplayName("Tests for OffHeapText")
+class OffHeapTextTest {
+
+    private TextParser parser;
+    private TextProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        parser = new TextParser();
+        processor = new TextProcessor();
+    }
+
+    @Test
+    @DisplayName("Should read back the same text that was copied off-heap")
+    void testRoundTrip() {
+        Text text = parser.parse("First sentence. Second one! Is this the third?");
+
+        try (OffHeapText offHeap = new OffHeapText(text)) {
+            assertEquals(text.toString(), offHeap.toString());
+            assertEquals(3, offHeap.getSentenceCount());
+            assertEquals(text.toString().length(), offHeap.getCharacterCount());
+            assertEquals(text.toString(), offHeap.toText().toString());
+            assertEquals(" Second one!", offHeap.getSentence(1).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should preserve the kind of every sentence element")
+    void testElementKindsArePreserved() {
+        Text text = parser.parse("Hello, world.");
+
+        try (OffHeapText offHeap = new OffHeapText(text)) {
+            List<SentenceElement> elements = offHeap.getSentence(0).getElements();
+            assertEquals(5, elements.size());
+            assertInstanceOf(Word.class, elements.get(0));
+            assertInstanceOf(Punctuation.class, elements.get(1));
+            assertInstanceOf(Punctuation.class, elements.get(2));
+            assertInstanceOf(Word.class, elements.get(3));
+            assertInstanceOf(Punctuation.class, elements.get(4));
+        }
+    }
+
+    @Test
+    @DisplayName("Should replace words of a given length directly in native memory")
+    void testReplaceWordsOfLength() {
+        String original = "First sentence has a word. Second sentence also has.";
+        Text text = parser.parse(original);
+        Word replacement = new Word("REPLACED");
+
+        try (OffHeapText offHeap = new OffHeapText(text);
+             OffHeapText result = processor.replaceWordsOfLengthOffHeap(offHeap, 3, replacement)) {
+            assertEquals(processor.replaceWordsOfLength(text, 3, replacement).toString(), result.toString());
+            assertEquals(original, offHeap.toString(), "The source text should not change");
+        }
+    }
+
+    @Test
+    @DisplayName("Should live as long as a caller-supplied arena")
+    void testCallerSuppliedArena() {
+        Text text = parser.parse("Scoped text.");
+        OffHeapText offHeap;
+
+        try (Arena arena = Arena.ofConfined()) {
+            offHeap = new OffHeapText(text, arena);
+            offHeap.close(); // Must not close the caller's arena
+            assertEquals("Scoped text.", offHeap.toString());
+        }
+
+        assertThrows(IllegalStateException.class, offHeap::toString);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalStateException after the memory is released")
+    void testAccessAfterClose_ThrowsException() {
+        OffHeapText offHeap = new OffHeapText(parser.parse("Closed text."));
+        offHeap.close();
+        offHeap.close(); // Closing twice has no effect
+
+        assertThrows(IllegalStateException.class, offHeap::toString);
+        assertThrows(IllegalStateException.class, () -> offHeap.getSentence(0));
+        assertThrows(IllegalStateException.class, () -> new TextProcessor()
+                .replaceWordsOfLengthOffHeap(offHeap, 6, new Word("open")));
+    }
+
+    @Test
+    @DisplayName("Should tolerate concurrent close calls")
+    void testConcurrentClose() {
+        for (int round = 0; round < 50; round++) {
+            OffHeapText offHeap = new OffHeapText(parser.parse("Closed from many threads."));
+
+            assertDoesNotThrow(() -> IntStream.range(0, 8).parallel().forEach(i -> offHeap.close()));
+            assertThrows(IllegalStateException.class, offHeap::toString);
+            assertEquals(1, offHeap.getSentenceCount(), "Counts stay available after close");
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for invalid inputs")
+    void testInvalidInputs_ThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapText(null));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapText(parser.parse("Text."), null));
+        assertThrows(IllegalArgumentException.class, () ->
+                processor.replaceWordsOfLengthOffHeap(null, 3, new Word("a")));
+
+        try (OffHeapText offHeap = new OffHeapText(parser.parse("Some text."))) {
+            assertThrows(IllegalArgumentException.class, () -> processor.replaceWordsOfLengthOffHeap(offHeap, 0, new Word("a")));
+            assertThrows(IllegalArgumentException.class, () -> processor.replaceWordsOfLengthOffHeap(offHeap, 4, null));
+        }
+    }
+}
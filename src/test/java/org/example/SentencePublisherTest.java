@@ -0,0 +1,160 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Unit tests for the SentencePublisher and SentenceReplacementProcessor classes.
+ * A same-thread executor is used so that every signal is delivered before request() returns.
+ */
+@DisplayName("Tests for SentencePublisher and SentenceReplacementProcessor")
+class SentencePublisherTest {
+
+    private static final Executor SAME_THREAD = Runnable::run;
+
+    private static final String INPUT = "First sentence. Second one! Is this the third?";
+
+    /** A subscriber that records every signal and requests only when told to. */
+    private static final class RecordingSubscriber implements Flow.Subscriber<Sentence> {
+        private final List<String> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Sentence item) {
+            items.add(item.toString());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver no more sentences than requested")
+    void testHonorsDemand() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new SentencePublisher(INPUT, SAME_THREAD).subscribe(subscriber);
+
+        assertNotNull(subscriber.subscription, "onSubscribe should be signalled");
+        assertTrue(subscriber.items.isEmpty(), "Nothing should be delivered before a request");
+
+        subscriber.subscription.request(2);
+        assertEquals(List.of("First sentence.", " Second one!"), subscriber.items);
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(5);
+        assertEquals(3, subscriber.items.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Should complete when exactly the number of sentences is requested")
+    void testCompletesOnExactDemand() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new SentencePublisher(INPUT, SAME_THREAD).subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+
+        assertEquals(3, subscriber.items.size());
+        assertTrue(subscriber.completed, "Completion should not wait for further demand");
+    }
+
+    @Test
+    @DisplayName("Should stop delivering after cancellation")
+    void testCancellation() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new SentencePublisher(INPUT, SAME_THREAD).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+
+        assertEquals(List.of("First sentence."), subscriber.items);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Should signal IllegalArgumentException for a non-positive request")
+    void testNonPositiveRequest_SignalsError() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new SentencePublisher(INPUT, SAME_THREAD).subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+    @Test
+    @DisplayName("Should signal IllegalArgumentException for blank input")
+    void testBlankInput_SignalsError() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new SentencePublisher("   ", SAME_THREAD).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Processor should replace words in every sentence passing through it")
+    void testProcessorReplacesWords() {
+        SentenceReplacementProcessor processor =
+                new SentenceReplacementProcessor(new TextProcessor(), 3, new Word("XXX"));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        processor.subscribe(subscriber);
+        new SentencePublisher(INPUT, SAME_THREAD).subscribe(processor);
+
+        subscriber.subscription.request(1);
+        assertEquals(List.of("First sentence."), subscriber.items, "Demand should be forwarded unchanged");
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(List.of("First sentence.", " Second XXX!", " Is this XXX third?"), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Processor should reject a second subscriber")
+    void testProcessorRejectsSecondSubscriber() {
+        SentenceReplacementProcessor processor =
+                new SentenceReplacementProcessor(new TextProcessor(), 3, new Word("XXX"));
+        processor.subscribe(new RecordingSubscriber());
+
+        RecordingSubscriber second = new RecordingSubscriber();
+        processor.subscribe(second);
+
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for invalid constructor arguments")
+    void testInvalidArguments_ThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new SentencePublisher(null));
+        assertThrows(IllegalArgumentException.class, () -> new SentencePublisher(INPUT, null));
+        assertThrows(IllegalArgumentException.class, () ->
+                new SentenceReplacementProcessor(null, 3, new Word("a")));
+        assertThrows(IllegalArgumentException.class, () ->
+                new SentenceReplacementProcessor(new TextProcessor(), 0, new Word("a")));
+        assertThrows(IllegalArgumentException.class, () ->
+                new SentenceReplacementProcessor(new TextProcessor(), 3, null));
+    }
+}
@@ -4,7 +4,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Unit tests for the TextParser class.
@@ -127,4 +129,18 @@ class TextParserTest {
         assertEquals("world", elements.get(3).toString());
         assertInstanceOf(Punctuation.class, elements.get(4)); // Period
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should iterate sentences lazily with the same result as parse()")
+    void testIterateSentences() {
+        String input = "First sentence. Second one! Is this the third";
+        Iterator<Sentence> sentences = parser.iterateSentences(input);
+
+        assertTrue(sentences.hasNext());
+        assertEquals("First sentence.", sentences.next().toString());
+        assertEquals(" Second one!", sentences.next().toString());
+        assertEquals(" Is this the third", sentences.next().toString());
+        assertFalse(sentences.hasNext());
+        assertThrows(NoSuchElementException.class, sentences::next);
+    }
+}
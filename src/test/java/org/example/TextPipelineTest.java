@@ -0,0 +1,90 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the TextPipeline class and the ElementTransform stages.
+ */
+@DisplayName("Tests for TextPipeline")
+class TextPipelineTest {
+
+    private TextParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new TextParser();
+    }
+
+    @Test
+    @DisplayName("Should run all stages in order in a single pass")
+    void testComposedStages() {
+        Text text = parser.parse("Alice Met BOB, and Bob waved!");
+        WordDictionary names = new WordDictionary(Map.of("alice", new Word("[NAME]"), "bob", new Word("[NAME]")), false);
+
+        TextPipeline pipeline = new TextPipeline()
+                .then(ElementTransform.stripPunctuation())
+                .then(ElementTransform.foldCase())
+                .then(ElementTransform.replaceFromDictionary(names))
+                .then(ElementTransform.replaceWordsOfLength(3, new Word("***")));
+
+        assertEquals("[NAME] *** [NAME] *** [NAME] waved", pipeline.apply(text).toString());
+        assertEquals("Alice Met BOB, and Bob waved!", text.toString(), "The original text should not change");
+    }
+
+    @Test
+    @DisplayName("Should visit every element exactly once for the whole pipeline")
+    void testSingleTraversal() {
+        Text text = parser.parse("One two three. Four five!");
+        AtomicInteger visits = new AtomicInteger();
+        ElementTransform counting = element -> {
+            visits.incrementAndGet();
+            return element;
+        };
+
+        new TextPipeline().then(counting).then(ElementTransform.foldCase()).apply(text);
+
+        int elementCount = text.getSentences().stream().mapToInt(s -> s.getElements().size()).sum();
+        assertEquals(elementCount, visits.get());
+    }
+
+    @Test
+    @DisplayName("Should return the input itself when no stage changes anything")
+    void testUnchangedInputIsShared() {
+        Text text = parser.parse("already lower case text.");
+
+        assertSame(text, new TextPipeline().apply(text));
+        assertSame(text, new TextPipeline().then(ElementTransform.foldCase()).apply(text));
+    }
+
+    @Test
+    @DisplayName("Should match TextProcessor for the length replacement stage")
+    void testLengthStageMatchesProcessor() {
+        Text text = parser.parse("brown fox jumps over the lazy dog.");
+        Word replacement = new Word("#####");
+
+        Sentence sentence = text.getSentences().getFirst();
+        TextPipeline pipeline = new TextPipeline().then(ElementTransform.replaceWordsOfLength(5, replacement));
+
+        assertEquals(new TextProcessor().replaceWordsOfLength(text, 5, replacement).toString(),
+                pipeline.apply(text).toString());
+        assertEquals("##### fox ##### over the lazy dog.", pipeline.apply(sentence).toString());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for invalid inputs")
+    void testInvalidInputs_ThrowException() {
+        TextPipeline pipeline = new TextPipeline();
+
+        assertThrows(IllegalArgumentException.class, () -> pipeline.then(null));
+        assertThrows(IllegalArgumentException.class, () -> pipeline.apply((Text) null));
+        assertThrows(IllegalArgumentException.class, () -> pipeline.apply((Sentence) null));
+        assertThrows(IllegalArgumentException.class, () -> ElementTransform.replaceWordsOfLength(0, new Word("a")));
+        assertThrows(IllegalArgumentException.class, () -> ElementTransform.replaceFromDictionary(null));
+        assertThrows(IllegalArgumentException.class, () -> ElementTransform.foldCase().andThen(null));
+    }
+}
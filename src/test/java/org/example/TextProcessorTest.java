@@ -111,4 +111,79 @@ class TextProcessorTest {
 
         assertEquals(original, result.toString(), "Text should not change");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should replace words of a given length in a single sentence object")
+    void testReplaceWordsInSentence() {
+        Sentence sentence = parser.parse("brown fox jumps over the lazy dog.").getSentences().getFirst();
+
+        Sentence result = processor.replaceWordsInSentence(sentence, 5, new Word("#####"));
+
+        assertEquals("##### fox ##### over the lazy dog.", result.toString());
+        assertThrows(IllegalArgumentException.class, () ->
+                processor.replaceWordsInSentence(null, 5, new Word("a")));
+    }
+
+    @Test
+    @DisplayName("Should process repeated sentences once and share the result")
+    void testMemoizedReplacement() {
+        TextProcessor memoizing = new TextProcessor(64);
+        Text text = parser.parse("Some footer line. Other text here. ".repeat(100));
+
+        Text result = memoizing.replaceWordsOfLength(text, 4, new Word("XXXX"));
+
+        assertEquals(processor.replaceWordsOfLength(text, 4, new Word("XXXX")).toString(), result.toString());
+        assertSame(result.getSentences().get(2), result.getSentences().get(4));
+        assertEquals(3, memoizing.getMemoMissCount(), "Only the first sentence lacks a leading space");
+        assertEquals(197, memoizing.getMemoHitCount());
+        assertEquals(0.985, memoizing.getMemoHitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should key memoized results by the operation parameters")
+    void testMemoKeyIncludesParameters() {
+        TextProcessor memoizing = new TextProcessor(64);
+        Sentence sentence = parser.parse("The quick fox.").getSentences().get(0);
+
+        assertEquals("The XXXXX fox.", memoizing.replaceWordsInSentence(sentence, 5, new Word("XXXXX")).toString());
+        assertEquals("The YYYYY fox.", memoizing.replaceWordsInSentence(sentence, 5, new Word("YYYYY")).toString());
+        assertEquals("ZZZ quick ZZZ.", memoizing.replaceWordsInSentence(sentence, 3, new Word("ZZZ")).toString());
+        assertEquals("The XXXXX fox.", memoizing.replaceWordsInSentence(sentence, 5, new Word("XXXXX")).toString());
+        assertEquals(1, memoizing.getMemoHitCount());
+    }
+
+    @Test
+    @DisplayName("Should return the input when a memoized sentence is unchanged")
+    void testMemoizedUnchangedText() {
+        TextProcessor memoizing = new TextProcessor(16);
+        Text text = parser.parse("No match. No match. No match.");
+
+        assertSame(text, memoizing.replaceWordsOfLength(text, 9, new Word("X")));
+        assertEquals(1, memoizing.getMemoHitCount());
+    }
+
+    @Test
+    @DisplayName("Should stay correct when used from many threads")
+    void testMemoizedReplacementIsThreadSafe() {
+        TextProcessor memoizing = new TextProcessor(1024);
+        Text text = parser.parse("Alpha beta gamma. Delta epsilon. Zeta eta theta! ".repeat(50));
+        String expected = processor.replaceWordsOfLength(text, 4, new Word("####")).toString();
+
+        java.util.stream.IntStream.range(0, 64).parallel().forEach(i ->
+                assertEquals(expected, memoizing.replaceWordsOfLength(text, 4, new Word("####")).toString()));
+
+        assertEquals(64L * 150, memoizing.getMemoHitCount() + memoizing.getMemoMissCount());
+        assertTrue(memoizing.getMemoHitRate() > 0.25);
+    }
+
+    @Test
+    @DisplayName("Should report no memo statistics when memoization is disabled")
+    void testMemoDisabled() {
+        processor.replaceWordsOfLength(parser.parse("One. One."), 3, new Word("Two"));
+
+        assertFalse(processor.isMemoizing());
+        assertEquals(0, processor.getMemoHitCount());
+        assertEquals(0.0, processor.getMemoHitRate());
+        assertThrows(IllegalArgumentException.class, () -> new TextProcessor(0));
+    }
+}
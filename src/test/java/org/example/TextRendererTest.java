@@ -0,0 +1,87 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for the TextRenderer class.
+ * Every test compares the rendered file with the bytes of the sequential toString() path.
+ */
+@DisplayName("Tests for TextRenderer")
+class TextRendererTest {
+
+    @TempDir
+    Path directory;
+
+    private TextParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new TextParser();
+    }
+
+    @Test
+    @DisplayName("Should write the same bytes as the sequential path")
+    void testRenderMatchesSequentialPath() throws IOException {
+        Text text = parser.parse("Hello, world. Second one! Is this the third?");
+        Path file = directory.resolve("out.txt");
+
+        new TextRenderer().render(text, file);
+
+        assertArrayEquals(text.toString().getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("Should write identical bytes across many batches and buffer flushes")
+    void testRenderWithSmallBatchesAndBuffers() throws IOException {
+        Text text = parser.parse("Привіт, світ! Emoji 😀 here. Ünïcödé wörds… ".repeat(500) + "End");
+        Path file = directory.resolve("out.txt");
+
+        new TextRenderer(7, 64).render(text, file);
+
+        assertArrayEquals(text.toString().getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("Should replace unpaired surrogates the same way String.getBytes does")
+    void testRenderUnpairedSurrogates() throws IOException {
+        Sentence sentence = new Sentence(List.of(
+                new Punctuation('\uD83D'), new Word("a"), new Punctuation('\uDE00'), new Punctuation('\uD83D')));
+        Text text = new Text(List.of(sentence));
+        Path file = directory.resolve("out.txt");
+
+        new TextRenderer().render(text, file);
+
+        assertArrayEquals(text.toString().getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("Should truncate an existing file and handle empty text")
+    void testRenderEmptyTextTruncates() throws IOException {
+        Path file = directory.resolve("out.txt");
+        Files.writeString(file, "previous content");
+
+        new TextRenderer().render(new Text(Collections.emptyList()), file);
+
+        assertEquals(0, Files.size(file));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for invalid inputs")
+    void testInvalidInputs_ThrowException() {
+        TextRenderer renderer = new TextRenderer();
+        Path file = directory.resolve("out.txt");
+
+        assertThrows(IllegalArgumentException.class, () -> renderer.render(null, file));
+        assertThrows(IllegalArgumentException.class, () -> renderer.render(parser.parse("Text."), null));
+    }
+}
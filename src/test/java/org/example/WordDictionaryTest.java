@@ -0,0 +1,93 @@
+package org.example;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for the WordDictionary class and dictionary-based replacement in TextProcessor.
+ */
+@DisplayName("Tests for WordDictionary")
+class WordDictionaryTest {
+
+    private TextParser parser;
+    private TextProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        parser = new TextParser();
+        processor = new TextProcessor();
+    }
+
+    @Test
+    @DisplayName("Should find exact entries, including entries that are prefixes of others")
+    void testLookup() {
+        Word short1 = new Word("[A]");
+        Word long1 = new Word("[B]");
+        WordDictionary dictionary = new WordDictionary(Map.of("car", short1, "cart", long1), false);
+
+        assertSame(short1, dictionary.lookup(new Word("car")));
+        assertSame(long1, dictionary.lookup(new Word("cart")));
+        assertNull(dictionary.lookup(new Word("ca")));
+        assertNull(dictionary.lookup(new Word("carts")));
+        assertNull(dictionary.lookup(new Word("Car")), "Lookups should be case-sensitive by default");
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    @DisplayName("Should ignore case in a case-insensitive dictionary")
+    void testCaseInsensitiveLookup() {
+        Word redacted = new Word("XXX");
+        WordDictionary dictionary = new WordDictionary(Map.of("Alice", redacted), true);
+
+        assertTrue(dictionary.isCaseInsensitive());
+        assertSame(redacted, dictionary.lookup(new Word("alice")));
+        assertSame(redacted, dictionary.lookup(new Word("ALICE")));
+    }
+
+    @Test
+    @DisplayName("Should replace all dictionary words in a single pass over the text")
+    void testReplaceWordsFromDictionary() {
+        Text text = parser.parse("Alice met Bob. Bob waved at alice!");
+        WordDictionary dictionary = new WordDictionary(
+                Map.of("alice", new Word("[NAME]"), "bob", new Word("[NAME]"), "waved", new Word("smiled")), true);
+
+        Text result = processor.replaceWordsFromDictionary(text, dictionary);
+
+        assertEquals("[NAME] met [NAME]. [NAME] smiled at [NAME]!", result.toString());
+    }
+
+    @Test
+    @DisplayName("Should handle a dictionary with 100k entries")
+    void testLargeDictionary() {
+        Map<String, Word> entries = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            entries.put("term" + i, new Word("T" + i));
+        }
+        WordDictionary dictionary = new WordDictionary(entries, false);
+
+        Text result = processor.replaceWordsFromDictionary(parser.parse("see term0 and term99999 not term100000."), dictionary);
+
+        assertEquals("see T0 and T99999 not term100000.", result.toString());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for invalid inputs")
+    void testInvalidInputs_ThrowException() {
+        Map<String, Word> nullValue = new HashMap<>();
+        nullValue.put("word", null);
+
+        assertThrows(IllegalArgumentException.class, () -> new WordDictionary(null, false));
+        assertThrows(IllegalArgumentException.class, () -> new WordDictionary(Map.of("", new Word("a")), false));
+        assertThrows(IllegalArgumentException.class, () -> new WordDictionary(nullValue, false));
+        assertThrows(IllegalArgumentException.class, () ->
+                new WordDictionary(Map.of("Bob", new Word("a"), "bob", new Word("b")), true));
+        assertThrows(IllegalArgumentException.class, () ->
+                processor.replaceWordsFromDictionary(null, new WordDictionary(Map.of(), false)));
+        assertThrows(IllegalArgumentException.class, () ->
+                processor.replaceWordsFromDictionary(parser.parse("Text."), null));
+    }
+}
@@ -0,0 +1,103 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark for the heap saved by word interning, behind the figure quoted in the README.
+ * It is not part of the regular test run; enable it with {@code mvn test -Dbenchmarks=true}.
+ *
+ * <p>The corpus is about 8 million characters of words drawn from a synthetic vocabulary of
+ * 20,000 words with Zipf-distributed frequencies (exponent 1), in sentences of 5 to 20 words.
+ * The retained heap of the parsed text is measured with and without a {@link WordTable}.
+ */
+@DisplayName("Word interning benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class WordInterningBenchmarkTest {
+
+    /** The number of characters the corpus is built up to. */
+    private static final int CORPUS_SIZE = 8_000_000;
+
+    /** The number of distinct words in the vocabulary. */
+    private static final int VOCABULARY_SIZE = 20_000;
+
+    /** The capacity of the WordTable used for interning. */
+    private static final int TABLE_CAPACITY = 1 << 16;
+
+    @Test
+    @DisplayName("Interning should reduce the retained heap of a Zipfian corpus")
+    void testInterningReducesRetainedHeap() {
+        String corpus = zipfianCorpus(new Random(42));
+
+        long plain = retainedBytes(() -> new TextParser().parse(corpus));
+        long interned = retainedBytes(() -> new TextParser(new WordTable(TABLE_CAPACITY)).parse(corpus));
+
+        System.out.printf("Corpus of %,d characters: %,d MB plain, %,d MB interned%n",
+                corpus.length(), plain >> 20, interned >> 20);
+        assertTrue(interned < plain / 2, "Interning should at least halve the retained heap");
+    }
+
+    /**
+     * Builds the corpus. Each vocabulary word is made of random lowercase letters, 2 to 10 long.
+     *
+     * @param random The source of randomness.
+     * @return The corpus.
+     */
+    private static String zipfianCorpus(Random random) {
+        String[] vocabulary = new String[VOCABULARY_SIZE];
+        double[] cumulative = new double[VOCABULARY_SIZE];
+        double total = 0;
+        for (int rank = 0; rank < VOCABULARY_SIZE; rank++) {
+            char[] letters = new char[2 + random.nextInt(9)];
+            for (int i = 0; i < letters.length; i++) {
+                letters[i] = (char) ('a' + random.nextInt(26));
+            }
+            vocabulary[rank] = new String(letters);
+            total += 1.0 / (rank + 1);
+            cumulative[rank] = total;
+        }
+
+        StringBuilder corpus = new StringBuilder(CORPUS_SIZE + 100);
+        while (corpus.length() < CORPUS_SIZE) {
+            int words = 5 + random.nextInt(16);
+            for (int i = 0; i < words; i++) {
+                int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                corpus.append(vocabulary[(index < 0) ? -index - 1 : index]);
+                corpus.append((i == words - 1) ? ". " : " ");
+            }
+        }
+        return corpus.toString();
+    }
+
+    /**
+     * Measures the heap retained by the object an action creates.
+     *
+     * @param action The action creating the object.
+     * @return The growth of the used heap after full collections, in bytes.
+     */
+    private static long retainedBytes(Supplier<Object> action) {
+        long before = usedHeapAfterGc();
+        Object retained = action.get();
+        long after = usedHeapAfterGc();
+        assertNotNull(retained); // Keeps the object reachable until after the measurement
+        return after - before;
+    }
+
+    /**
+     * Returns the used heap after running the garbage collector a few times.
+     *
+     * @return The used heap, in bytes.
+     */
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,88 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for the WordTable class and interning in TextParser.
+ */
+@DisplayName("Tests for WordTable")
+class WordTableTest {
+
+    @Test
+    @DisplayName("Should return the same instance for repeated words")
+    void testInternReturnsSameInstance() {
+        WordTable table = new WordTable(64);
+
+        Word first = table.intern(new StringBuilder("the"));
+        Word second = table.intern("the");
+
+        assertSame(first, second);
+        assertEquals("the", first.toString());
+        assertEquals(1, table.getHitCount());
+        assertEquals(1, table.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should share interned words across a parsed text")
+    void testParserInternsWords() {
+        TextParser parser = new TextParser(new WordTable(1024));
+
+        Text text = parser.parse("The cat saw the dog. The dog saw the cat.");
+
+        List<SentenceElement> first = text.getSentences().get(0).getElements();
+        List<SentenceElement> second = text.getSentences().get(1).getElements();
+        assertSame(first.get(2), second.get(9), "Both occurrences of 'cat' should share one Word");
+        assertSame(first.get(4), second.get(5), "Both occurrences of 'saw' should share one Word");
+        assertEquals("The cat saw the dog. The dog saw the cat.", text.toString());
+    }
+
+    @Test
+    @DisplayName("Should stay within its capacity for any number of distinct words")
+    void testTableIsBounded() {
+        WordTable table = new WordTable(16);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals("w" + i, table.intern("w" + i).toString());
+        }
+
+        assertEquals(16, table.getCapacity());
+        assertEquals(10_000, table.getMissCount() + table.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Should spread words that share a String hash code")
+    void testCollidingStringHashesAreSpread() {
+        WordTable table = new WordTable(1 << 16);
+        List<String> words = List.of("Aa", "BB");
+        for (int i = 0; i < 3; i++) {
+            words = words.stream().flatMap(prefix -> Stream.of(prefix + "Aa", prefix + "BB")).toList();
+        }
+        assertEquals(1, words.stream().mapToInt(String::hashCode).distinct().count());
+
+        words.forEach(table::intern);
+        words.forEach(table::intern);
+
+        assertTrue(table.getHitCount() >= 12, "Most of the 16 words should keep their own slot");
+    }
+
+    @Test
+    @DisplayName("Should not intern words longer than the maximum length")
+    void testLongWordsAreNotInterned() {
+        WordTable table = new WordTable(16);
+        String longWord = "x".repeat(WordTable.MAX_INTERNED_LENGTH + 1);
+
+        assertNotSame(table.intern(longWord), table.intern(longWord));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for invalid inputs")
+    void testInvalidInputs_ThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new WordTable(0));
+        assertThrows(IllegalArgumentException.class, () -> new WordTable(16).intern(null));
+        assertThrows(IllegalArgumentException.class, () -> new TextParser(null));
+    }
+}